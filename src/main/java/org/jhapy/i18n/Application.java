@@ -26,6 +26,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.jhapy.commons.config.AppProperties;
 import org.jhapy.commons.utils.DefaultProfileUtil;
 import org.jhapy.commons.utils.SpringProfileConstants;
+import org.jhapy.i18n.config.I18NCacheProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -36,6 +37,7 @@ import org.springframework.cloud.client.circuitbreaker.EnableCircuitBreaker;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 
 /**
@@ -45,9 +47,10 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
  */
 @SpringBootApplication
 @EnableDiscoveryClient
-@EnableConfigurationProperties(AppProperties.class)
+@EnableConfigurationProperties({AppProperties.class, I18NCacheProperties.class})
 @EnableCircuitBreaker
 @EnableGlobalMethodSecurity(prePostEnabled = true)
+@EnableScheduling
 @ComponentScan({"org.jhapy.i18n", "org.jhapy.commons"})
 public class Application implements InitializingBean {
 
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.cache;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IAtomicLong;
+import com.hazelcast.core.IMap;
+import java.util.HashSet;
+import java.util.Set;
+import org.jhapy.commons.utils.HasLogger;
+import org.jhapy.i18n.event.TranslationChange;
+import org.jhapy.i18n.event.TranslationsChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cluster wide version of the translation catalogue, used to tag the per language bundles and as
+ * their ETag.
+ * <p>
+ * The catalogue version is a Hazelcast atomic long, bumped once per committed transaction that
+ * changed translations. Each language records the catalogue version of its last change, a change
+ * of every language (rename of an element...) is recorded under {@link #ALL_LANGUAGES}. The
+ * counter is seeded with the current time, so versions keep increasing after a full cluster
+ * restart.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class CatalogueVersion implements HasLogger {
+
+  public static final String CATALOGUE_VERSION = "i18nCatalogueVersion";
+  public static final String LANGUAGE_VERSIONS_MAP = "i18nLanguageVersions";
+
+  private static final String ALL_LANGUAGES = "*";
+
+  private final HazelcastInstance hazelcastInstance;
+
+  public CatalogueVersion(HazelcastInstance hazelcastInstance) {
+    this.hazelcastInstance = hazelcastInstance;
+  }
+
+  /**
+   * Version of the given language : the catalogue version of the last change that affected it
+   */
+  public long getVersion(String iso3Language) {
+    IMap<String, Long> languageVersions = getLanguageVersions();
+    Long allLanguagesVersion = languageVersions.get(ALL_LANGUAGES);
+    if (allLanguagesVersion == null) {
+      allLanguagesVersion = seed();
+    }
+    Long languageVersion = languageVersions.get(iso3Language);
+    return languageVersion == null ? allLanguagesVersion
+        : Math.max(languageVersion, allLanguagesVersion);
+  }
+
+  /**
+   * Runs before the other listeners, so a bundle rebuilt because of this event is tagged with the
+   * new version
+   */
+  @EventListener
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onTranslationsChanged(TranslationsChangedEvent event) {
+    String loggerPrefix = getLoggerPrefix("onTranslationsChanged");
+
+    if (event.isRemote()) {
+      // Already bumped by the node that committed the change
+      return;
+    }
+
+    Set<String> iso3Languages = new HashSet<>();
+    for (TranslationChange change : event.getChanges()) {
+      if (change.getIso3Language() == null) {
+        iso3Languages.clear();
+        iso3Languages.add(ALL_LANGUAGES);
+        break;
+      }
+      iso3Languages.add(change.getIso3Language());
+    }
+    if (iso3Languages.isEmpty()) {
+      return;
+    }
+
+    seed();
+    long version = hazelcastInstance.getAtomicLong(CATALOGUE_VERSION).incrementAndGet();
+    IMap<String, Long> languageVersions = getLanguageVersions();
+    for (String iso3Language : iso3Languages) {
+      languageVersions.set(iso3Language, version);
+    }
+    logger().debug(loggerPrefix + "Catalogue version " + version + " for " + iso3Languages);
+  }
+
+  /**
+   * Initialize the counter on first use and make it the version of every language
+   */
+  private long seed() {
+    IAtomicLong catalogueVersion = hazelcastInstance.getAtomicLong(CATALOGUE_VERSION);
+    catalogueVersion.compareAndSet(0, System.currentTimeMillis());
+    long version = catalogueVersion.get();
+    getLanguageVersions().putIfAbsent(ALL_LANGUAGES, version);
+    return version;
+  }
+
+  private IMap<String, Long> getLanguageVersions() {
+    return hazelcastInstance.getMap(LANGUAGE_VERSIONS_MAP);
+  }
+}
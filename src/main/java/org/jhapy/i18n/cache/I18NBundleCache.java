@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jhapy.i18n.dto.I18NBundle;
+import org.jhapy.i18n.event.TranslationChange;
+import org.jhapy.i18n.event.TranslationsChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Precomputed per language bundles, keyed by the language version they were built at (see {@link
+ * CatalogueVersion}). A bundle is only served for its own version, and is dropped as soon as a
+ * committed change on this node touches its language.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class I18NBundleCache {
+
+  private final ConcurrentMap<String, I18NBundle> bundles = new ConcurrentHashMap<>();
+
+  public I18NBundle get(String iso3Language, long version) {
+    I18NBundle bundle = bundles.get(iso3Language);
+    return bundle != null && bundle.getVersion() == version ? bundle : null;
+  }
+
+  /**
+   * Keep the most recent bundle of a language
+   */
+  public void put(I18NBundle bundle) {
+    bundles.merge(bundle.getIso3Language(), bundle,
+        (current, candidate) -> candidate.getVersion() >= current.getVersion() ? candidate
+            : current);
+  }
+
+  @EventListener
+  public void onTranslationsChanged(TranslationsChangedEvent event) {
+    for (TranslationChange change : event.getChanges()) {
+      if (change.getIso3Language() == null) {
+        bundles.clear();
+        return;
+      }
+      bundles.remove(change.getIso3Language());
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Deduplicating queue of the (name, iso3Language) translations that were requested but do not
+ * exist yet. They are created in background, by batches, instead of in the read request.
+ * <p>
+ * A key stays pending from {@link #offer(String, String)} until {@link #done(Collection)}, so a
+ * key requested again while its batch is being inserted is not queued twice.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MissingTranslationQueue {
+
+  private final Set<TranslationKey> pendingKeys = ConcurrentHashMap.newKeySet();
+  private final Queue<TranslationKey> queue = new ConcurrentLinkedQueue<>();
+  private final int maxPending;
+
+  public MissingTranslationQueue(int maxPending) {
+    this.maxPending = maxPending;
+  }
+
+  /**
+   * @return false when the queue is full, the caller has to create the translation itself
+   */
+  public boolean offer(String name, String iso3Language) {
+    TranslationKey key = TranslationKey.of(name, iso3Language);
+    if (pendingKeys.contains(key)) {
+      return true;
+    }
+    if (pendingKeys.size() >= maxPending) {
+      return false;
+    }
+    if (pendingKeys.add(key)) {
+      queue.add(key);
+    }
+    return true;
+  }
+
+  /**
+   * Take at most maxKeys keys, they stay pending until {@link #done(Collection)}
+   */
+  public List<TranslationKey> poll(int maxKeys) {
+    List<TranslationKey> keys = new ArrayList<>();
+    TranslationKey key;
+    while (keys.size() < maxKeys && (key = queue.poll()) != null) {
+      keys.add(key);
+    }
+    return keys;
+  }
+
+  public void done(Collection<TranslationKey> keys) {
+    pendingKeys.removeAll(keys);
+  }
+
+  public int size() {
+    return pendingKeys.size();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.cache;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.event.TranslationsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short lived, cluster wide cache of the findAnyMatching totals, keyed by family and filter.
+ * <p>
+ * A search screen fetches a page then the count of the same filter : the total computed with the
+ * page is reused by the count instead of running the DISTINCT JOIN count again. The counts are
+ * dropped after {@code jhapy.i18n.search.countTtlSeconds} and on every committed change.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SearchCountCache {
+
+  public static final String SEARCH_COUNTS_MAP = "i18nSearchCounts";
+
+  private final HazelcastInstance hazelcastInstance;
+
+  @Value("${jhapy.i18n.search.countTtlSeconds:30}")
+  private long countTtlSeconds;
+
+  public SearchCountCache(HazelcastInstance hazelcastInstance) {
+    this.hazelcastInstance = hazelcastInstance;
+  }
+
+  /**
+   * @param counter computes the total when it is not cached
+   */
+  public long getCount(TranslationFamily family, String filter, LongSupplier counter) {
+    Long count = getCounts().get(getKey(family, filter));
+    if (count == null) {
+      count = counter.getAsLong();
+      if (countTtlSeconds > 0) {
+        getCounts().set(getKey(family, filter), count, countTtlSeconds, TimeUnit.SECONDS);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Page of a content query run without its count query. The total is taken from the cache, or
+   * deduced from the content on the first and last pages, or counted, then cached.
+   */
+  public <T> Page<T> getPage(TranslationFamily family, String filter, List<T> content,
+      Pageable pageable, LongSupplier counter) {
+    Page<T> page = PageableExecutionUtils
+        .getPage(content, pageable, () -> getCount(family, filter, counter));
+    if (countTtlSeconds > 0) {
+      getCounts().putIfAbsent(getKey(family, filter), page.getTotalElements(), countTtlSeconds,
+          TimeUnit.SECONDS);
+    }
+    return page;
+  }
+
+  @EventListener
+  public void onTranslationsChanged(TranslationsChangedEvent event) {
+    if (!event.isRemote()) {
+      // The map is shared, the node that committed the change clears it
+      getCounts().clear();
+    }
+  }
+
+  private String getKey(TranslationFamily family, String filter) {
+    return family.name() + ":" + filter;
+  }
+
+  private IMap<String, Long> getCounts() {
+    return hazelcastInstance.getMap(SEARCH_COUNTS_MAP);
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.cache;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jhapy.i18n.utils.TransactionScopedCollector;
+
+/**
+ * Local (name, iso3Language) to translation cache, consulted before any transaction or Hibernate
+ * session is opened.
+ * <p>
+ * Entries are evicted by the translation listeners. An eviction made inside a transaction is
+ * repeated once the transaction completes, and a value loaded while an eviction happened is not
+ * stored, so a concurrent reader cannot put back a stale translation.
+ * <p>
+ * Expired entries are removed when read. Once the cache holds {@code maxEntries}, each new entry
+ * evicts the oldest inserted one : the insertion order is kept in a queue, so a put never scans
+ * the cache.
+ *
+ * @param <T> Translation type
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TranslationCache<T> {
+
+  private final String cacheName;
+  private final long timeToLiveMillis;
+  private final int maxEntries;
+
+  private final ConcurrentMap<TranslationKey, Entry<T>> entries = new ConcurrentHashMap<>();
+  /**
+   * Every inserted entry, oldest first. Entries already removed or replaced are skipped when
+   * polled, so the queue bounds the cache size.
+   */
+  private final ConcurrentLinkedQueue<Entry<T>> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger insertionCount = new AtomicInteger();
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  /**
+   * Keys evicted in the current transaction, a null key when the whole cache was evicted
+   */
+  private final TransactionScopedCollector<TranslationKey> pendingEvictions =
+      TransactionScopedCollector.afterCompletion(this::evictAgain);
+
+  public TranslationCache(String cacheName, long timeToLiveSeconds, int maxEntries) {
+    this.cacheName = cacheName;
+    this.timeToLiveMillis = timeToLiveSeconds * 1000;
+    this.maxEntries = maxEntries;
+  }
+
+  public String getCacheName() {
+    return cacheName;
+  }
+
+  public T get(String name, String iso3Language) {
+    TranslationKey key = TranslationKey.of(name, iso3Language);
+    Entry<T> entry = entries.get(key);
+    if (entry == null || entry.isExpired()) {
+      if (entry != null) {
+        entries.remove(key, entry);
+      }
+      missCount.incrementAndGet();
+      return null;
+    }
+    hitCount.incrementAndGet();
+    return entry.value;
+  }
+
+  /**
+   * @return the generation to give back to {@link #put(String, String, Object, long)} once the
+   * value is loaded
+   */
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  public void put(String name, String iso3Language, T value, long loadGeneration) {
+    if (value == null || loadGeneration != generation.get()) {
+      return;
+    }
+    TranslationKey key = TranslationKey.of(name, iso3Language).intern();
+    Entry<T> entry = new Entry<>(key, value, System.currentTimeMillis() + timeToLiveMillis);
+    entries.put(key, entry);
+    insertionOrder.add(entry);
+
+    int count = insertionCount.incrementAndGet();
+    while (count > maxEntries) {
+      Entry<T> oldest = insertionOrder.poll();
+      if (oldest == null) {
+        break;
+      }
+      count = insertionCount.decrementAndGet();
+      entries.remove(oldest.key, oldest);
+    }
+  }
+
+  public void evict(String name, String iso3Language) {
+    TranslationKey key = TranslationKey.of(name, iso3Language);
+    generation.incrementAndGet();
+    entries.remove(key);
+    pendingEvictions.add(key);
+  }
+
+  public void evictAll() {
+    generation.incrementAndGet();
+    clear();
+    pendingEvictions.add(null);
+  }
+
+  /**
+   * Evictions made in a transaction, repeated once it completes
+   */
+  private void evictAgain(List<TranslationKey> keys) {
+    generation.incrementAndGet();
+    if (keys.contains(null)) {
+      clear();
+    } else {
+      keys.forEach(entries::remove);
+    }
+  }
+
+  private void clear() {
+    entries.clear();
+    while (insertionOrder.poll() != null) {
+      insertionCount.decrementAndGet();
+    }
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  private static class Entry<T> {
+
+    private final TranslationKey key;
+    private final T value;
+    private final long expiresAt;
+
+    private Entry(TranslationKey key, T value, long expiresAt) {
+      this.key = key;
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired() {
+      return System.currentTimeMillis() > expiresAt;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.cache;
+
+import java.io.Serializable;
+
+/**
+ * (name, iso3Language) key used by the translation caches. Stored keys are interned so that the
+ * equality check on a hit is most of the time a reference comparison.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class TranslationKey implements Serializable {
+
+  private final String name;
+  private final String iso3Language;
+  private final int hash;
+
+  private TranslationKey(String name, String iso3Language) {
+    this.name = name;
+    this.iso3Language = iso3Language;
+    this.hash = 31 * name.hashCode() + iso3Language.hashCode();
+  }
+
+  /**
+   * Key used for a lookup, not interned
+   */
+  public static TranslationKey of(String name, String iso3Language) {
+    return new TranslationKey(name, iso3Language);
+  }
+
+  /**
+   * Key used for a stored entry, interned
+   */
+  public TranslationKey intern() {
+    return new TranslationKey(name.intern(), iso3Language.intern());
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getIso3Language() {
+    return iso3Language;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TranslationKey)) {
+      return false;
+    }
+    TranslationKey that = (TranslationKey) o;
+    return hash == that.hash && name.equals(that.name) && iso3Language.equals(that.iso3Language);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return name + "/" + iso3Language;
+  }
+}
@@ -19,18 +19,32 @@
 package org.jhapy.i18n.config;
 
 import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.GroupConfig;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.InterfacesConfig;
 import com.hazelcast.config.ManagementCenterConfig;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MaxSizeConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 import org.apache.commons.lang3.StringUtils;
 import org.jhapy.commons.config.AppProperties;
 import org.jhapy.commons.utils.HasLogger;
 import org.jhapy.commons.utils.SpringProfileConstants;
+import org.jhapy.i18n.cache.CatalogueVersion;
+import org.jhapy.i18n.config.I18NCacheProperties.Region;
+import org.jhapy.i18n.domain.Action;
+import org.jhapy.i18n.domain.ActionTrl;
+import org.jhapy.i18n.domain.Element;
+import org.jhapy.i18n.domain.ElementTrl;
+import org.jhapy.i18n.domain.Message;
+import org.jhapy.i18n.domain.MessageTrl;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
@@ -48,6 +62,15 @@ import org.springframework.core.env.Profiles;
 @EnableCaching
 public class CacheConfiguration implements DisposableBean, HasLogger {
 
+  /**
+   * hazelcast-hibernate stores each entity region of the second level cache in the map of the same
+   * name : the entity class name. The query cache is a local region of each node that doesn't use
+   * any Hazelcast map, so it has no map config here.
+   */
+  public static final List<String> ENTITY_REGIONS = Arrays
+      .asList(Element.class.getName(), ElementTrl.class.getName(), Action.class.getName(),
+          ActionTrl.class.getName(), Message.class.getName(), MessageTrl.class.getName());
+
   private final Environment env;
 
   private final ServerProperties serverProperties;
@@ -56,15 +79,18 @@ public class CacheConfiguration implements DisposableBean, HasLogger {
 
   private final AppProperties appProperties;
 
+  private final I18NCacheProperties cacheProperties;
+
   private Registration registration;
 
   public CacheConfiguration(Environment env, ServerProperties serverProperties,
       DiscoveryClient discoveryClient,
-      AppProperties appProperties) {
+      AppProperties appProperties, I18NCacheProperties cacheProperties) {
     this.env = env;
     this.serverProperties = serverProperties;
     this.discoveryClient = discoveryClient;
     this.appProperties = appProperties;
+    this.cacheProperties = cacheProperties;
   }
 
   @Autowired(required = false)
@@ -155,6 +181,11 @@ public class CacheConfiguration implements DisposableBean, HasLogger {
       }
     }
     config.getMapConfigs().put("default", initializeDefaultMapConfig(appProperties));
+    for (String region : ENTITY_REGIONS) {
+      config.getMapConfigs().put(region, initializeRegionMapConfig(region, appProperties));
+    }
+    config.getMapConfigs().put(CatalogueVersion.LANGUAGE_VERSIONS_MAP,
+        initializeLanguageVersionsMapConfig(appProperties));
 
     // Full reference is available at: http://docs.hazelcast.org/docs/management-center/3.9/manual/html/Deploying_and_Starting.html
     config.setManagementCenterConfig(initializeDefaultManagementCenterConfig(appProperties));
@@ -203,6 +234,70 @@ public class CacheConfiguration implements DisposableBean, HasLogger {
     return mapConfig;
   }
 
+  /**
+   * Bounded map for a second level cache region, see {@link I18NCacheProperties#getRegions()}. The
+   * update timestamps region is left without near cache : it has to be current for the query cache
+   * to be correct.
+   */
+  private MapConfig initializeRegionMapConfig(String region, AppProperties appProperties) {
+    String loggerPrefix = getLoggerPrefix("initializeRegionMapConfig", region);
+
+    MapConfig mapConfig = initializeDomainMapConfig(appProperties);
+    mapConfig.setName(region);
+    mapConfig.setStatisticsEnabled(true);
+    mapConfig.setBackupCount(appProperties.getHazelcast().getBackupCount());
+
+    String regionKey = StringUtils.substringAfterLast(region, ".");
+    Integer timeToLiveSeconds = getRegionSetting(regionKey, Region::getTimeToLiveSeconds);
+    if (timeToLiveSeconds != null) {
+      mapConfig.setTimeToLiveSeconds(timeToLiveSeconds);
+    }
+    mapConfig.setMaxIdleSeconds(getRegionSetting(regionKey, Region::getMaxIdleSeconds));
+    mapConfig.setEvictionPolicy(getRegionSetting(regionKey, Region::getEvictionPolicy));
+    mapConfig.setMaxSizeConfig(new MaxSizeConfig(getRegionSetting(regionKey, Region::getMaxSize),
+        MaxSizeConfig.MaxSizePolicy.PER_NODE));
+    mapConfig.setInMemoryFormat(getRegionSetting(regionKey, Region::getInMemoryFormat));
+
+    I18NCacheProperties.NearCache nearCache = cacheProperties.getNearCache();
+    if (nearCache.isEnabled()) {
+      EvictionConfig evictionConfig = new EvictionConfig()
+          .setEvictionPolicy(EvictionPolicy.LRU)
+          .setMaximumSizePolicy(EvictionConfig.MaxSizePolicy.ENTRY_COUNT)
+          .setSize(nearCache.getMaxSize());
+      mapConfig.setNearCacheConfig(new NearCacheConfig(region)
+          .setInvalidateOnChange(true)
+          .setCacheLocalEntries(true)
+          .setInMemoryFormat(nearCache.getInMemoryFormat())
+          .setTimeToLiveSeconds(nearCache.getTimeToLiveSeconds())
+          .setMaxIdleSeconds(nearCache.getMaxIdleSeconds())
+          .setEvictionConfig(evictionConfig));
+    }
+
+    logger().info(loggerPrefix + "TTL = " + mapConfig.getTimeToLiveSeconds() + "s, max size = "
+        + mapConfig.getMaxSizeConfig().getSize() + ", format = " + mapConfig.getInMemoryFormat());
+    return mapConfig;
+  }
+
+  /**
+   * Read on each bundle request, written once per committed change : kept in a near cache,
+   * invalidated by the owner on every update
+   */
+  private MapConfig initializeLanguageVersionsMapConfig(AppProperties appProperties) {
+    MapConfig mapConfig = new MapConfig(CatalogueVersion.LANGUAGE_VERSIONS_MAP);
+    mapConfig.setBackupCount(appProperties.getHazelcast().getBackupCount());
+    mapConfig.setNearCacheConfig(new NearCacheConfig(CatalogueVersion.LANGUAGE_VERSIONS_MAP)
+        .setInvalidateOnChange(true)
+        .setCacheLocalEntries(true)
+        .setInMemoryFormat(InMemoryFormat.OBJECT));
+    return mapConfig;
+  }
+
+  private <T> T getRegionSetting(String regionKey, Function<Region, T> setting) {
+    Region region = cacheProperties.getRegions().get(regionKey);
+    T value = region == null ? null : setting.apply(region);
+    return value != null ? value : setting.apply(cacheProperties.getRegionDefaults());
+  }
+
   private MapConfig initializeDomainMapConfig(AppProperties appProperties) {
     MapConfig mapConfig = new MapConfig();
     mapConfig.setTimeToLiveSeconds(appProperties.getHazelcast().getTimeToLiveSeconds());
@@ -23,8 +23,12 @@ import com.zaxxer.hikari.HikariDataSource;
 import io.micrometer.core.instrument.MeterRegistry;
 import javax.annotation.PostConstruct;
 import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
@@ -48,4 +52,33 @@ public class DatabaseConfiguration {
       ((HikariDataSource) dataSource).setMetricRegistry(meterRegistry);
     }
   }
+
+  /**
+   * JDBC batching for the Excel import, unless already set in the configuration
+   */
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+      @Value("${jhapy.i18n.import.batchSize:500}") int batchSize) {
+    return hibernateProperties -> {
+      hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE,
+          String.valueOf(batchSize));
+      hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+      hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+    };
+  }
+
+  /**
+   * Query cache for the finders marked as cacheable, invalidated through the update timestamps
+   * region. Statistics feed the hibernate.* meters (query cache hit ratio...).
+   * <p>
+   * hazelcast-hibernate keeps the query results in a local region of each node rather than in a
+   * Hazelcast map, so the region settings of {@link I18NCacheProperties} don't apply to it.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer queryCacheCustomizer() {
+    return hibernateProperties -> {
+      hibernateProperties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, "true");
+      hibernateProperties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, "true");
+    };
+  }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.config;
+
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Hazelcast settings of the Hibernate second level cache regions
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "jhapy.i18n.cache")
+public class I18NCacheProperties {
+
+  private final NearCache nearCache = new NearCache();
+
+  /**
+   * Settings used for a region when not overridden in {@link #regions}
+   */
+  private final Region regionDefaults = new Region(0, 100000, EvictionPolicy.LRU,
+      InMemoryFormat.BINARY);
+
+  /**
+   * Overrides per region, by entity simple name (Element, ElementTrl...). Only the fields that are
+   * set override the defaults.
+   */
+  private final Map<String, Region> regions = new HashMap<>();
+
+  /**
+   * Region map settings. The time to live is always jhapy.hazelcast.timeToLiveSeconds unless set
+   * here.
+   */
+  @Data
+  @NoArgsConstructor
+  public static class Region {
+
+    private Integer timeToLiveSeconds;
+
+    private Integer maxIdleSeconds;
+
+    /**
+     * Entries per node
+     */
+    private Integer maxSize;
+
+    private EvictionPolicy evictionPolicy;
+
+    private InMemoryFormat inMemoryFormat;
+
+    Region(Integer maxIdleSeconds, Integer maxSize, EvictionPolicy evictionPolicy,
+        InMemoryFormat inMemoryFormat) {
+      this.maxIdleSeconds = maxIdleSeconds;
+      this.maxSize = maxSize;
+      this.evictionPolicy = evictionPolicy;
+      this.inMemoryFormat = inMemoryFormat;
+    }
+  }
+
+  /**
+   * Local copy of the entries on each node, invalidated when an entry changes anywhere in the
+   * cluster
+   */
+  @Data
+  public static class NearCache {
+
+    private boolean enabled = true;
+
+    /**
+     * 0 means no limit, entries only leave on invalidation, idle time or eviction
+     */
+    private int timeToLiveSeconds = 0;
+
+    private int maxIdleSeconds = 3600;
+
+    /**
+     * Entries per region and per node
+     */
+    private int maxSize = 50000;
+
+    /**
+     * OBJECT avoids deserializing on every hit
+     */
+    private InMemoryFormat inMemoryFormat = InMemoryFormat.OBJECT;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.config;
+
+import java.util.Collections;
+import javax.jms.ConnectionFactory;
+import org.jhapy.i18n.event.TranslationChangesMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.annotation.EnableJms;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.MessageType;
+
+/**
+ * Translation changes topic, on the ActiveMQ broker configured with the spring.activemq
+ * properties. Without a broker url, Spring Boot starts an embedded (vm://) broker.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableJms
+@ConditionalOnProperty(name = "jhapy.i18n.changes.broadcast.enabled", havingValue = "true")
+public class JmsConfiguration {
+
+  public static final String TRANSLATION_CHANGES_TYPE_ID = "translationChanges";
+
+  /**
+   * JSON payload, with a type id instead of the class name so other services can read it. Not a
+   * bean : Spring Boot would apply it to every JmsTemplate and listener of the application.
+   */
+  public static MessageConverter createTranslationChangesMessageConverter() {
+    MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+    converter.setTargetType(MessageType.TEXT);
+    converter.setTypeIdPropertyName("_type");
+    converter.setTypeIdMappings(Collections
+        .singletonMap(TRANSLATION_CHANGES_TYPE_ID, TranslationChangesMessage.class));
+    return converter;
+  }
+
+  /**
+   * Listener container of the translation changes topic only, Spring Boot's default
+   * jmsListenerContainerFactory is left untouched
+   */
+  @Bean
+  public DefaultJmsListenerContainerFactory translationChangesListenerFactory(
+      ConnectionFactory connectionFactory,
+      DefaultJmsListenerContainerFactoryConfigurer configurer) {
+    DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory();
+    configurer.configure(factory, connectionFactory);
+    factory.setPubSubDomain(true);
+    factory.setMessageConverter(createTranslationChangesMessageConverter());
+    return factory;
+  }
+}
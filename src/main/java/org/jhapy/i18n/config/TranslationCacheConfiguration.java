@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jhapy.i18n.cache.TranslationCache;
+import org.jhapy.i18n.domain.ActionTrl;
+import org.jhapy.i18n.domain.ElementTrl;
+import org.jhapy.i18n.domain.MessageTrl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Local (name, iso3Language) lookup caches, one per translation family
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Configuration
+public class TranslationCacheConfiguration {
+
+  @Value("${jhapy.i18n.lookupCache.timeToLiveSeconds:300}")
+  private long timeToLiveSeconds;
+
+  @Value("${jhapy.i18n.lookupCache.maxEntries:200000}")
+  private int maxEntries;
+
+  private final MeterRegistry meterRegistry;
+
+  public TranslationCacheConfiguration(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Bean
+  public TranslationCache<ElementTrl> elementTrlCache() {
+    return createCache("elementTrlLookup");
+  }
+
+  @Bean
+  public TranslationCache<ActionTrl> actionTrlCache() {
+    return createCache("actionTrlLookup");
+  }
+
+  @Bean
+  public TranslationCache<MessageTrl> messageTrlCache() {
+    return createCache("messageTrlLookup");
+  }
+
+  private <T> TranslationCache<T> createCache(String cacheName) {
+    TranslationCache<T> cache = new TranslationCache<>(cacheName, timeToLiveSeconds, maxEntries);
+
+    FunctionCounter.builder("cache.gets", cache, TranslationCache::getHitCount)
+        .tags("name", cacheName, "result", "hit").register(meterRegistry);
+    FunctionCounter.builder("cache.gets", cache, TranslationCache::getMissCount)
+        .tags("name", cacheName, "result", "miss").register(meterRegistry);
+    Gauge.builder("cache.size", cache, TranslationCache::size)
+        .tags("name", cacheName).register(meterRegistry);
+
+    return cache;
+  }
+}
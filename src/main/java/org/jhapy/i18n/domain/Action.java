@@ -22,6 +22,9 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import javax.persistence.TableGenerator;
 import javax.persistence.Transient;
 import lombok.Data;
@@ -29,6 +32,7 @@ import lombok.EqualsAndHashCode;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.javers.core.metamodel.annotation.TypeName;
+import org.jhapy.i18n.listeners.TranslationWriteListener;
 
 /**
  * @author jHapy Lead Dev.
@@ -38,7 +42,10 @@ import org.javers.core.metamodel.annotation.TypeName;
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Table(indexes = {@Index(name = "IDX_ACTION_MODIFIED", columnList = "modified"),
+    @Index(name = "IDX_ACTION_CATEGORY_NAME", columnList = "category,name,id")})
 @Cache(usage = CacheConcurrencyStrategy.TRANSACTIONAL)
+@EntityListeners(TranslationWriteListener.class)
 @TableGenerator(name = "ActionKeyGen", table = "Sequence", pkColumnName = "COLUMN_NAME", pkColumnValue = "ACTION_ID", valueColumnName = "SEQ_VAL", initialValue = 0, allocationSize = 1)
 @TypeName("Action")
 public class Action extends BaseEntity {
@@ -22,12 +22,16 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import javax.persistence.Transient;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.javers.core.metamodel.annotation.TypeName;
+import org.jhapy.i18n.listeners.TranslationWriteListener;
 
 /**
  * @author jHapy Lead Dev.
@@ -37,7 +41,10 @@ import org.javers.core.metamodel.annotation.TypeName;
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Table(indexes = {@Index(name = "IDX_ELEMENT_MODIFIED", columnList = "modified"),
+    @Index(name = "IDX_ELEMENT_CATEGORY_NAME", columnList = "category,name,id")})
 @Cache(usage = CacheConcurrencyStrategy.TRANSACTIONAL)
+@EntityListeners(TranslationWriteListener.class)
 @TypeName("Element")
 public class Element extends BaseEntity {
 
@@ -20,8 +20,11 @@ package org.jhapy.i18n.domain;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -30,6 +33,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.javers.core.metamodel.annotation.ShallowReference;
 import org.javers.core.metamodel.annotation.TypeName;
 import org.jhapy.i18n.listeners.ElementTrlListener;
+import org.jhapy.i18n.listeners.TranslationWriteListener;
 
 /**
  * @author jHapy Lead Dev.
@@ -39,8 +43,13 @@ import org.jhapy.i18n.listeners.ElementTrlListener;
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Table(indexes = {@Index(name = "IDX_ELEMENT_TRL_LANGUAGE_MODIFIED",
+    columnList = "iso3Language,modified"),
+    @Index(name = "IDX_ELEMENT_TRL_MODIFIED", columnList = "modified")},
+    uniqueConstraints = @UniqueConstraint(name = "UK_ELEMENT_TRL_ELEMENT_LANGUAGE",
+        columnNames = {"ELEMENT_ID", "iso3Language"}))
 @Cache(usage = CacheConcurrencyStrategy.TRANSACTIONAL)
-@EntityListeners(ElementTrlListener.class)
+@EntityListeners({ElementTrlListener.class, TranslationWriteListener.class})
 @TypeName("ElementTrl")
 public class ElementTrl extends EntityTranslation {
 
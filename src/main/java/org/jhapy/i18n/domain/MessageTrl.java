@@ -20,8 +20,11 @@ package org.jhapy.i18n.domain;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -30,6 +33,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.javers.core.metamodel.annotation.ShallowReference;
 import org.javers.core.metamodel.annotation.TypeName;
 import org.jhapy.i18n.listeners.MessageTrlListener;
+import org.jhapy.i18n.listeners.TranslationWriteListener;
 
 /**
  * @author jHapy Lead Dev.
@@ -39,8 +43,13 @@ import org.jhapy.i18n.listeners.MessageTrlListener;
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Table(indexes = {@Index(name = "IDX_MESSAGE_TRL_LANGUAGE_MODIFIED",
+    columnList = "iso3Language,modified"),
+    @Index(name = "IDX_MESSAGE_TRL_MODIFIED", columnList = "modified")},
+    uniqueConstraints = @UniqueConstraint(name = "UK_MESSAGE_TRL_MESSAGE_LANGUAGE",
+        columnNames = {"MESSAGE_ID", "iso3Language"}))
 @Cache(usage = CacheConcurrencyStrategy.TRANSACTIONAL)
-@EntityListeners(MessageTrlListener.class)
+@EntityListeners({MessageTrlListener.class, TranslationWriteListener.class})
 @TypeName("MessageTrl")
 public class MessageTrl extends EntityTranslation {
 
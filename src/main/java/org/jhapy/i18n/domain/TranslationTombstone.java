@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Trace of a deleted translation, so the delta sync can report deletions. The creation date is the
+ * deletion date. Tombstones are purged after a retention period.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "IDX_TRANSLATION_TOMBSTONE_CREATED", columnList = "created"))
+public class TranslationTombstone extends BaseEntity {
+
+  @Enumerated(EnumType.STRING)
+  private TranslationFamily family;
+
+  /**
+   * Element, Action or Message name
+   */
+  private String name;
+
+  /**
+   * Null when every language is deleted (rename of the parent)
+   */
+  private String iso3Language;
+
+  public TranslationTombstone(TranslationFamily family, String name, String iso3Language) {
+    this.family = family;
+    this.name = name;
+    this.iso3Language = iso3Language;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import lombok.Data;
+
+/**
+ * The translations of one language changed since a given date, as name to value maps, and the
+ * names of the deleted ones. Deletions have to be applied before the changed values.
+ * <p>
+ * When fullResync is set, the maps hold every translation of the language and replace the client
+ * bundle : the given date was missing or older than the tombstone retention.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+public class TranslationChanges implements Serializable {
+
+  private String iso3Language;
+
+  /**
+   * Version of the language, the same as the bundle ETag
+   */
+  private long version;
+
+  private Instant since;
+
+  /**
+   * Value to send as "since" on the next call. It never goes past the first write of a
+   * transaction still open in the cluster (a long import...), and it overlaps with the current
+   * call, so a change committed later is not missed : the same change may be returned again.
+   */
+  private Instant next;
+
+  private boolean fullResync;
+
+  private Map<String, TranslationValue> elements;
+
+  private Map<String, TranslationValue> actions;
+
+  private Map<String, TranslationValue> messages;
+
+  private Collection<String> deletedElements;
+
+  private Collection<String> deletedActions;
+
+  private Collection<String> deletedMessages;
+}
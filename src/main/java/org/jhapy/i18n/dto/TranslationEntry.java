@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Flat translation row, selected with a JPQL constructor expression so that no entity is loaded
+ * in the persistence context
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationEntry implements Serializable {
+
+  private String category;
+
+  private String name;
+
+  private String iso3Language;
+
+  private String value;
+
+  private String tooltip;
+
+  private Boolean isTranslated;
+
+  /**
+   * Messages have no tooltip
+   */
+  public TranslationEntry(String category, String name, String iso3Language, String value,
+      Boolean isTranslated) {
+    this(category, name, iso3Language, value, null, isTranslated);
+  }
+}
@@ -20,7 +20,9 @@ package org.jhapy.i18n.endpoint;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.jhapy.commons.endpoint.BaseEndpoint;
 import org.jhapy.commons.utils.OrikaBeanMapper;
 import org.jhapy.dto.serviceQuery.ServiceResult;
@@ -32,6 +34,9 @@ import org.jhapy.dto.serviceQuery.i18n.GetByNameAndIso3Query;
 import org.jhapy.dto.serviceQuery.i18n.elementTrl.CountByElementQuery;
 import org.jhapy.dto.serviceQuery.i18n.elementTrl.FindByElementQuery;
 import org.jhapy.i18n.domain.ElementTrl;
+import org.jhapy.i18n.dto.GetByNamesAndIso3Query;
+import org.jhapy.i18n.dto.TranslationEntry;
+import org.jhapy.i18n.dto.TranslationValue;
 import org.jhapy.i18n.service.ElementTrlService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -102,11 +107,11 @@ public class ElementTrlServiceEndpoint extends BaseEndpoint {
   public ResponseEntity<ServiceResult> findByIso3(@RequestBody FindByIso3Query query) {
     String loggerPrefix = getLoggerPrefix("findByIso3");
     try {
-      List<ElementTrl> result = elementTrlService
-          .getByIso3Language(query.getIso3Language());
+      // Flat rows : no entity in the persistence context, no mapping
+      List<TranslationEntry> result = elementTrlService
+          .findEntriesByIso3Language(query.getIso3Language());
 
-      return handleResult(loggerPrefix, mapperFacade
-          .mapAsList(result, org.jhapy.dto.domain.i18n.ElementTrl.class, getOrikaContext(query)));
+      return handleResult(loggerPrefix, result);
     } catch (Throwable t) {
       return handleResult(loggerPrefix, t);
     }
@@ -132,6 +137,30 @@ public class ElementTrlServiceEndpoint extends BaseEndpoint {
     }
   }
 
+  /**
+   * Several names variant of getByNameAndIso3, returns a name to value map
+   */
+  @Operation(
+      security = @SecurityRequirement(name = "openId", scopes = {"ROLE_I18N_READ",
+          "ROLE_I18N_WRITE"})
+  )
+  @PreAuthorize("hasAnyAuthority('ROLE_I18N_READ', 'ROLE_I18N_WRITE')")
+  @PostMapping(value = "/getByNamesAndIso3")
+  public ResponseEntity<ServiceResult> getByNamesAndIso3(
+      @RequestBody GetByNamesAndIso3Query query) {
+    String loggerPrefix = getLoggerPrefix("getByNamesAndIso3", query.getIso3Language());
+    try {
+      Map<String, TranslationValue> result = new LinkedHashMap<>();
+      elementTrlService.getByNamesAndIso3Language(query.getNames(), query.getIso3Language())
+          .forEach((name, elementTrl) -> result
+              .put(name, new TranslationValue(elementTrl.getValue(), elementTrl.getTooltip())));
+
+      return handleResult(loggerPrefix, result);
+    } catch (Throwable t) {
+      return handleResult(loggerPrefix, t);
+    }
+  }
+
   @Operation(
       security = @SecurityRequirement(name = "openId", scopes = {"ROLE_I18N_READ",
           "ROLE_I18N_WRITE"})
@@ -18,18 +18,37 @@
 
 package org.jhapy.i18n.endpoint;
 
+import java.io.IOException;
+import java.io.InputStream;
+import javax.servlet.http.HttpServletResponse;
 import org.jhapy.commons.endpoint.BaseEndpoint;
 import org.jhapy.commons.utils.OrikaBeanMapper;
 import org.jhapy.dto.serviceQuery.BaseRemoteQuery;
 import org.jhapy.dto.serviceQuery.ServiceResult;
+import org.jhapy.dto.serviceQuery.i18n.FindByIso3Query;
 import org.jhapy.dto.serviceQuery.i18n.ImportI18NFileQuery;
+import org.jhapy.i18n.dto.GetI18NImportJobQuery;
+import org.jhapy.i18n.dto.GetTranslationChangesQuery;
+import org.jhapy.i18n.dto.I18NBundle;
+import org.jhapy.i18n.event.TranslationChangeStream;
+import org.jhapy.i18n.service.I18NImportJobService;
 import org.jhapy.i18n.service.I18nService;
+import org.jhapy.i18n.service.TranslationChangesService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * @author jHapy Lead Dev.
@@ -41,12 +60,24 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/i18NService")
 public class I18NServiceEndpoint extends BaseEndpoint {
 
+  private static final String XLSX_CONTENT_TYPE =
+      "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
   private final I18nService i18nService;
+  private final I18NImportJobService i18NImportJobService;
+  private final TranslationChangesService translationChangesService;
+  private final TranslationChangeStream translationChangeStream;
 
   public I18NServiceEndpoint(I18nService i18nService,
+      I18NImportJobService i18NImportJobService,
+      TranslationChangesService translationChangesService,
+      TranslationChangeStream translationChangeStream,
       OrikaBeanMapper mapperFacade) {
     super(mapperFacade);
     this.i18nService = i18nService;
+    this.i18NImportJobService = i18NImportJobService;
+    this.translationChangesService = translationChangesService;
+    this.translationChangeStream = translationChangeStream;
   }
 
   @PreAuthorize("hasAnyAuthority('ROLE_I18N_READ', 'ROLE_I18N_WRITE')")
@@ -60,19 +91,170 @@ public class I18NServiceEndpoint extends BaseEndpoint {
     }
   }
 
+  /**
+   * Same content as getI18NFile, streamed as a raw xlsx file instead of a boxed byte array in a
+   * JSON payload
+   */
+  @PreAuthorize("hasAnyAuthority('ROLE_I18N_READ', 'ROLE_I18N_WRITE')")
+  @GetMapping(value = "/downloadI18NFile", produces = XLSX_CONTENT_TYPE)
+  public void downloadI18NFile(HttpServletResponse response) throws IOException {
+    response.setContentType(XLSX_CONTENT_TYPE);
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"i18n.xlsx\"");
+    i18nService.writeI18NFile(response.getOutputStream());
+    response.flushBuffer();
+  }
+
   @PreAuthorize("hasAuthority('ROLE_I18N_WRITE')")
   @PostMapping(value = "/importI18NFile")
   public ResponseEntity<ServiceResult> importI18NFile(@RequestBody ImportI18NFileQuery query) {
     String loggerPrefix = getLoggerPrefix("importI18NFile");
     try {
-      String result = i18nService.importI18NFile(query.getFileContent());
-      if (result == null) {
-        return handleResult(loggerPrefix);
-      } else {
-        return handleResult(loggerPrefix, result);
-      }
+      return handleImportResult(loggerPrefix, i18nService.importI18NFile(query.getFileContent()));
+    } catch (Throwable t) {
+      return handleResult(loggerPrefix, t);
+    }
+  }
+
+  @PreAuthorize("hasAnyAuthority('ROLE_I18N_READ', 'ROLE_I18N_WRITE')")
+  @PostMapping(value = "/getBundle")
+  public ResponseEntity<ServiceResult> getBundle(@RequestBody FindByIso3Query query) {
+    String loggerPrefix = getLoggerPrefix("getBundle");
+    try {
+      return handleResult(loggerPrefix, i18nService.getBundle(query.getIso3Language()));
+    } catch (Throwable t) {
+      return handleResult(loggerPrefix, t);
+    }
+  }
+
+  /**
+   * Cacheable variant of getBundle. The ETag is the language version, so a client revalidating
+   * with If-None-Match gets a 304 without the bundle being built or sent.
+   */
+  @PreAuthorize("hasAnyAuthority('ROLE_I18N_READ', 'ROLE_I18N_WRITE')")
+  @GetMapping(value = "/bundle/{iso3Language}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<I18NBundle> bundle(@PathVariable String iso3Language,
+      WebRequest request) {
+    if (request.checkNotModified(bundleETag(iso3Language,
+        i18nService.getBundleVersion(iso3Language)))) {
+      return null;
+    }
+    I18NBundle bundle = i18nService.getBundle(iso3Language);
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .eTag(bundleETag(iso3Language, bundle.getVersion()))
+        .body(bundle);
+  }
+
+  /**
+   * Translations of a language changed since the "next" value of the previous call
+   */
+  @PreAuthorize("hasAnyAuthority('ROLE_I18N_READ', 'ROLE_I18N_WRITE')")
+  @PostMapping(value = "/changesSince")
+  public ResponseEntity<ServiceResult> changesSince(@RequestBody GetTranslationChangesQuery query) {
+    String loggerPrefix = getLoggerPrefix("changesSince", query.getIso3Language(),
+        query.getSince());
+    try {
+      return handleResult(loggerPrefix, translationChangesService
+          .getChangesSince(query.getIso3Language(), query.getSince()));
+    } catch (Throwable t) {
+      return handleResult(loggerPrefix, t);
+    }
+  }
+
+  /**
+   * Server-sent events stream of the translation changes, optionally limited to one language. The
+   * stream times out after jhapy.i18n.changes.streamTimeoutMillis, clients then reconnect and use
+   * changesSince to catch up.
+   * <p>
+   * The stream only carries the changes committed on this node, unless the broadcast between
+   * nodes is enabled (jhapy.i18n.changes.broadcast.enabled).
+   */
+  @PreAuthorize("hasAnyAuthority('ROLE_I18N_READ', 'ROLE_I18N_WRITE')")
+  @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamChanges(
+      @RequestParam(value = "iso3Language", required = false) String iso3Language) {
+    return translationChangeStream.subscribe(iso3Language);
+  }
+
+  /**
+   * Binary variant of importI18NFile, the file is sent as a multipart "file" part
+   */
+  @PreAuthorize("hasAuthority('ROLE_I18N_WRITE')")
+  @PostMapping(value = "/uploadI18NFile", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<ServiceResult> uploadI18NFile(@RequestParam("file") MultipartFile file) {
+    String loggerPrefix = getLoggerPrefix("uploadI18NFile");
+    try (InputStream inputStream = file.getInputStream()) {
+      return handleImportResult(loggerPrefix, i18nService.importI18NFile(inputStream));
     } catch (Throwable t) {
       return handleResult(loggerPrefix, t);
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Binary variant of importI18NFile, the file is the raw request body
+   */
+  @PreAuthorize("hasAuthority('ROLE_I18N_WRITE')")
+  @PostMapping(value = "/uploadI18NFile", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<ServiceResult> uploadI18NFile(InputStream inputStream) {
+    String loggerPrefix = getLoggerPrefix("uploadI18NFile");
+    try {
+      return handleImportResult(loggerPrefix, i18nService.importI18NFile(inputStream));
+    } catch (Throwable t) {
+      return handleResult(loggerPrefix, t);
+    }
+  }
+
+  /**
+   * Asynchronous variant of uploadI18NFile, returns the import job to poll with
+   * getI18NImportJob
+   */
+  @PreAuthorize("hasAuthority('ROLE_I18N_WRITE')")
+  @PostMapping(value = "/submitI18NFileImport", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<ServiceResult> submitI18NFileImport(
+      @RequestParam("file") MultipartFile file) {
+    String loggerPrefix = getLoggerPrefix("submitI18NFileImport");
+    try (InputStream inputStream = file.getInputStream()) {
+      return handleResult(loggerPrefix, i18NImportJobService.submit(inputStream));
+    } catch (Throwable t) {
+      return handleResult(loggerPrefix, t);
+    }
+  }
+
+  /**
+   * Asynchronous variant of uploadI18NFile, returns the import job to poll with
+   * getI18NImportJob
+   */
+  @PreAuthorize("hasAuthority('ROLE_I18N_WRITE')")
+  @PostMapping(value = "/submitI18NFileImport", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<ServiceResult> submitI18NFileImport(InputStream inputStream) {
+    String loggerPrefix = getLoggerPrefix("submitI18NFileImport");
+    try {
+      return handleResult(loggerPrefix, i18NImportJobService.submit(inputStream));
+    } catch (Throwable t) {
+      return handleResult(loggerPrefix, t);
+    }
+  }
+
+  @PreAuthorize("hasAuthority('ROLE_I18N_WRITE')")
+  @PostMapping(value = "/getI18NImportJob")
+  public ResponseEntity<ServiceResult> getI18NImportJob(@RequestBody GetI18NImportJobQuery query) {
+    String loggerPrefix = getLoggerPrefix("getI18NImportJob", query.getJobId());
+    try {
+      return handleResult(loggerPrefix, i18NImportJobService.getJob(query.getJobId()));
+    } catch (Throwable t) {
+      return handleResult(loggerPrefix, t);
+    }
+  }
+
+  private static String bundleETag(String iso3Language, long version) {
+    return "\"" + iso3Language + "-" + version + "\"";
+  }
+
+  private ResponseEntity<ServiceResult> handleImportResult(String loggerPrefix, String result) {
+    if (result == null) {
+      return handleResult(loggerPrefix);
+    } else {
+      return handleResult(loggerPrefix, result);
+    }
+  }
+}
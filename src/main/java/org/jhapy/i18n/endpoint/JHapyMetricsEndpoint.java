@@ -81,6 +81,8 @@ public class JHapyMetricsEndpoint {
     results.put("http.server.requests", this.httpRequestsMetrics());
     // Cache stats
     results.put("cache", this.cacheMetrics());
+    // Hibernate second level and query cache stats
+    results.put("hibernateCache", this.hibernateCacheMetrics());
     // Service stats
     results.put("services", this.serviceMetrics());
     // Database stats
@@ -259,6 +261,38 @@ public class JHapyMetricsEndpoint {
     return resultsCache;
   }
 
+  private Map<String, Map<String, Number>> hibernateCacheMetrics() {
+    Map<String, Map<String, Number>> resultsHibernateCache = new HashMap<>();
+
+    Collection<FunctionCounter> counters = Search.in(this.meterRegistry)
+        .name(s -> s.startsWith("hibernate.cache.query")
+            || s.startsWith("hibernate.second.level.cache")).functionCounters();
+    counters.forEach(counter -> {
+      String name = counter.getId().getName();
+      String key = counter.getId().getTag("region") != null ? counter.getId().getTag("region")
+          : "query";
+      String result = counter.getId().getTag("result");
+
+      resultsHibernateCache.putIfAbsent(key, new HashMap<>());
+      Map<String, Number> resultsPerRegion = resultsHibernateCache.get(key);
+      if (name.endsWith(".requests") && result != null) {
+        resultsPerRegion
+            .merge(result, counter.count(), (x, y) -> x.doubleValue() + y.doubleValue());
+      } else if (name.endsWith(".puts")) {
+        resultsPerRegion
+            .merge("put", counter.count(), (x, y) -> x.doubleValue() + y.doubleValue());
+      }
+    });
+
+    resultsHibernateCache.values().forEach(resultsPerRegion -> {
+      double hit = resultsPerRegion.getOrDefault("hit", 0).doubleValue();
+      double miss = resultsPerRegion.getOrDefault("miss", 0).doubleValue();
+      resultsPerRegion.put("hitRatio", hit + miss != 0 ? hit / (hit + miss) : 0);
+    });
+
+    return resultsHibernateCache;
+  }
+
   private Map<String, Map<String, Number>> jvmMemoryMetrics() {
     Map<String, Map<String, Number>> resultsJvm = new HashMap<>();
 
@@ -29,6 +29,8 @@ import org.jhapy.dto.serviceQuery.generic.FindAnyMatchingQuery;
 import org.jhapy.dto.serviceQuery.generic.GetByIdQuery;
 import org.jhapy.dto.serviceQuery.generic.SaveQuery;
 import org.jhapy.i18n.domain.Message;
+import org.jhapy.i18n.dto.FindAnyMatchingAfterQuery;
+import org.jhapy.i18n.dto.KeysetPage;
 import org.jhapy.i18n.service.MessageService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -79,6 +81,26 @@ public class MessageServiceEndpoint extends BaseEndpoint {
     }
   }
 
+  @Operation(
+      security = @SecurityRequirement(name = "openId", scopes = {"ROLE_I18N_READ",
+          "ROLE_I18N_WRITE"})
+  )
+  @PreAuthorize("hasAnyAuthority('ROLE_I18N_READ', 'ROLE_I18N_WRITE')")
+  @PostMapping(value = "/findAnyMatchingAfter")
+  public ResponseEntity<ServiceResult> findAnyMatchingAfter(
+      @RequestBody FindAnyMatchingAfterQuery query) {
+    String loggerPrefix = getLoggerPrefix("findAnyMatchingAfter");
+    try {
+      KeysetPage<Message> result = messageService
+          .findAnyMatchingAfter(query.getFilter(), query.getCursor(), query.getSize());
+      return handleResult(loggerPrefix, new KeysetPage<>(mapperFacade
+          .mapAsList(result.getContent(), org.jhapy.dto.domain.i18n.Message.class,
+              getOrikaContext(query)), result.getNextCursor()));
+    } catch (Throwable t) {
+      return handleResult(loggerPrefix, t);
+    }
+  }
+
   @Operation(
       security = @SecurityRequirement(name = "openId", scopes = {"ROLE_I18N_READ",
           "ROLE_I18N_WRITE"})
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.jms.ConnectionFactory;
+import org.jhapy.commons.utils.HasLogger;
+import org.jhapy.i18n.cache.CatalogueVersion;
+import org.jhapy.i18n.cache.TranslationCache;
+import org.jhapy.i18n.config.JmsConfiguration;
+import org.jhapy.i18n.domain.ActionTrl;
+import org.jhapy.i18n.domain.ElementTrl;
+import org.jhapy.i18n.domain.MessageTrl;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Broadcasts the committed translation changes to the other nodes and services, on a JMS topic.
+ * <p>
+ * Local changes are queued and sent in batches from a dedicated thread, so the committing thread
+ * never waits on the broker. Changes received from another node evict the local lookup caches and
+ * are published again as remote {@link TranslationsChangedEvent} (bundles, change stream).
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+@ConditionalOnProperty(name = "jhapy.i18n.changes.broadcast.enabled", havingValue = "true")
+public class TranslationChangeBroadcaster implements HasLogger, DisposableBean {
+
+  private final String origin = UUID.randomUUID().toString();
+  private final ConcurrentLinkedQueue<TranslationChange> pendingChanges =
+      new ConcurrentLinkedQueue<>();
+
+  private final JmsTemplate translationChangesJmsTemplate;
+  private final CatalogueVersion catalogueVersion;
+  private final ApplicationEventPublisher applicationEventPublisher;
+  private final TranslationCache<ElementTrl> elementTrlCache;
+  private final TranslationCache<ActionTrl> actionTrlCache;
+  private final TranslationCache<MessageTrl> messageTrlCache;
+  private final ThreadPoolTaskScheduler broadcastScheduler;
+
+  @Value("${jhapy.i18n.changes.broadcast.topic:i18n.translationChanges}")
+  private String topic;
+
+  @Value("${jhapy.i18n.changes.broadcast.batchSize:1000}")
+  private int batchSize;
+
+  public TranslationChangeBroadcaster(ConnectionFactory connectionFactory,
+      CatalogueVersion catalogueVersion,
+      ApplicationEventPublisher applicationEventPublisher,
+      TranslationCache<ElementTrl> elementTrlCache,
+      TranslationCache<ActionTrl> actionTrlCache,
+      TranslationCache<MessageTrl> messageTrlCache,
+      @Value("${jhapy.i18n.changes.broadcast.batchMillis:100}") long batchMillis) {
+    // Own template : a JmsTemplate bean would replace Spring Boot's default one
+    this.translationChangesJmsTemplate = new JmsTemplate(connectionFactory);
+    this.translationChangesJmsTemplate.setPubSubDomain(true);
+    this.translationChangesJmsTemplate
+        .setMessageConverter(JmsConfiguration.createTranslationChangesMessageConverter());
+    this.catalogueVersion = catalogueVersion;
+    this.applicationEventPublisher = applicationEventPublisher;
+    this.elementTrlCache = elementTrlCache;
+    this.actionTrlCache = actionTrlCache;
+    this.messageTrlCache = messageTrlCache;
+    this.broadcastScheduler = new ThreadPoolTaskScheduler();
+    this.broadcastScheduler.setThreadNamePrefix("i18n-broadcast-");
+    this.broadcastScheduler.initialize();
+    this.broadcastScheduler.scheduleWithFixedDelay(this::flush, batchMillis);
+  }
+
+  @Override
+  public void destroy() {
+    broadcastScheduler.shutdown();
+    flush();
+  }
+
+  @EventListener
+  public void onTranslationsChanged(TranslationsChangedEvent event) {
+    if (!event.isRemote()) {
+      pendingChanges.addAll(event.getChanges());
+    }
+  }
+
+  protected void flush() {
+    String loggerPrefix = getLoggerPrefix("flush");
+
+    while (!pendingChanges.isEmpty()) {
+      List<TranslationChange> changes = new ArrayList<>();
+      TranslationChange change;
+      while (changes.size() < batchSize && (change = pendingChanges.poll()) != null) {
+        changes.add(change);
+      }
+
+      Map<String, Long> versions = new HashMap<>();
+      for (TranslationChange translationChange : changes) {
+        if (translationChange.getIso3Language() != null) {
+          versions.computeIfAbsent(translationChange.getIso3Language(),
+              catalogueVersion::getVersion);
+        }
+      }
+
+      try {
+        translationChangesJmsTemplate
+            .convertAndSend(topic, new TranslationChangesMessage(origin, versions, changes));
+        logger().debug(loggerPrefix + changes.size() + " changes sent");
+      } catch (Exception e) {
+        // Other nodes fall back on the cache time to live
+        logger().error(loggerPrefix + changes.size() + " changes not sent : " + e.getMessage(),
+            e);
+        return;
+      }
+    }
+  }
+
+  @JmsListener(destination = "${jhapy.i18n.changes.broadcast.topic:i18n.translationChanges}",
+      containerFactory = "translationChangesListenerFactory")
+  public void onTranslationChangesMessage(TranslationChangesMessage message) {
+    if (origin.equals(message.getOrigin())) {
+      return;
+    }
+    for (TranslationChange change : message.getChanges()) {
+      TranslationCache<?> cache = getCache(change);
+      if (change.getIso3Language() == null) {
+        cache.evictAll();
+      } else {
+        cache.evict(change.getName(), change.getIso3Language());
+      }
+    }
+    applicationEventPublisher
+        .publishEvent(new TranslationsChangedEvent(message.getChanges(), true));
+  }
+
+  private TranslationCache<?> getCache(TranslationChange change) {
+    switch (change.getFamily()) {
+      case ACTION:
+        return actionTrlCache;
+      case MESSAGE:
+        return messageTrlCache;
+      default:
+        return elementTrlCache;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.event;
+
+import java.util.Collections;
+import java.util.List;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.utils.TransactionScopedCollector;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects the translation changes made in the current transaction and publishes them as a single
+ * {@link TranslationsChangedEvent} once the transaction is committed. Changes made outside of a
+ * transaction are published right away.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class TranslationChangePublisher {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+  private final TransactionScopedCollector<TranslationChange> pendingChanges;
+
+  public TranslationChangePublisher(ApplicationEventPublisher applicationEventPublisher) {
+    this.applicationEventPublisher = applicationEventPublisher;
+    this.pendingChanges = TransactionScopedCollector.afterCommit(this::publishEvent);
+  }
+
+  public void translationChanged(TranslationFamily family, Long parentId, String name,
+      String iso3Language) {
+    publish(new TranslationChange(family, parentId, name, iso3Language, false));
+  }
+
+  public void translationDeleted(TranslationFamily family, Long parentId, String name,
+      String iso3Language) {
+    publish(new TranslationChange(family, parentId, name, iso3Language, true));
+  }
+
+  /**
+   * The parent itself changed (rename...), every language is affected
+   */
+  public void parentChanged(TranslationFamily family, Long parentId, String name) {
+    publish(new TranslationChange(family, parentId, name, null, false));
+  }
+
+  protected void publish(TranslationChange change) {
+    if (!pendingChanges.add(change)) {
+      publishEvent(Collections.singletonList(change));
+    }
+  }
+
+  private void publishEvent(List<TranslationChange> changes) {
+    applicationEventPublisher.publishEvent(new TranslationsChangedEvent(changes));
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.event;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.jhapy.commons.utils.HasLogger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes the committed translation changes to the subscribed clients as server-sent events.
+ * <p>
+ * Changes are coalesced per family, name and language (the last change wins) and sent in one
+ * "translations" event per batch interval. Subscribers idle for the heartbeat interval receive a
+ * comment, so proxies keep the connection open.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class TranslationChangeStream implements HasLogger, DisposableBean {
+
+  public static final String EVENT_NAME = "translations";
+
+  private static final long HEARTBEAT_INTERVAL_MILLIS = 30000;
+
+  private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+  private final ThreadPoolTaskScheduler streamScheduler;
+  private final long streamTimeoutMillis;
+
+  private Map<String, TranslationChange> pendingChanges = new LinkedHashMap<>();
+
+  public TranslationChangeStream(
+      @Value("${jhapy.i18n.changes.streamBatchMillis:100}") long streamBatchMillis,
+      @Value("${jhapy.i18n.changes.streamTimeoutMillis:1800000}") long streamTimeoutMillis) {
+    this.streamTimeoutMillis = streamTimeoutMillis;
+    this.streamScheduler = new ThreadPoolTaskScheduler();
+    this.streamScheduler.setThreadNamePrefix("i18n-stream-");
+    this.streamScheduler.initialize();
+    this.streamScheduler.scheduleWithFixedDelay(this::flush, streamBatchMillis);
+  }
+
+  @Override
+  public void destroy() {
+    streamScheduler.shutdown();
+    subscribers.forEach(subscriber -> subscriber.emitter.complete());
+  }
+
+  /**
+   * @param iso3Language Only receive the changes of this language (and those of every language),
+   * all changes when null
+   */
+  public SseEmitter subscribe(String iso3Language) {
+    SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+    Subscriber subscriber = new Subscriber(emitter, iso3Language);
+    emitter.onCompletion(() -> subscribers.remove(subscriber));
+    emitter.onTimeout(() -> subscribers.remove(subscriber));
+    emitter.onError(t -> subscribers.remove(subscriber));
+    subscribers.add(subscriber);
+    return emitter;
+  }
+
+  @EventListener
+  public void onTranslationsChanged(TranslationsChangedEvent event) {
+    synchronized (this) {
+      for (TranslationChange change : event.getChanges()) {
+        String key = change.getFamily() + ":" + change.getName() + ":" + change.getIso3Language();
+        // Keep the order of the last change
+        pendingChanges.remove(key);
+        pendingChanges.put(key, change);
+      }
+    }
+  }
+
+  protected void flush() {
+    String loggerPrefix = getLoggerPrefix("flush");
+
+    List<TranslationChange> changes;
+    synchronized (this) {
+      if (pendingChanges.isEmpty()) {
+        changes = null;
+      } else {
+        changes = new ArrayList<>(pendingChanges.values());
+        pendingChanges = new LinkedHashMap<>();
+      }
+    }
+
+    long now = System.currentTimeMillis();
+    for (Subscriber subscriber : subscribers) {
+      try {
+        // A subscriber filtered on one language may get nothing while other languages change
+        List<TranslationChange> subscriberChanges =
+            changes == null ? null : subscriber.filter(changes);
+        if (subscriberChanges != null && !subscriberChanges.isEmpty()) {
+          subscriber.emitter.send(SseEmitter.event().name(EVENT_NAME)
+              .data(subscriberChanges, MediaType.APPLICATION_JSON));
+          subscriber.lastSent = now;
+        } else if (now - subscriber.lastSent >= HEARTBEAT_INTERVAL_MILLIS) {
+          subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+          subscriber.lastSent = now;
+        }
+      } catch (IOException | IllegalStateException e) {
+        logger().debug(loggerPrefix + "Subscriber gone : " + e.getMessage());
+        subscribers.remove(subscriber);
+        subscriber.emitter.completeWithError(e);
+      }
+    }
+  }
+
+  private static class Subscriber {
+
+    private final SseEmitter emitter;
+    private final String iso3Language;
+
+    /**
+     * Only read and written by the stream thread
+     */
+    private long lastSent = System.currentTimeMillis();
+
+    private Subscriber(SseEmitter emitter, String iso3Language) {
+      this.emitter = emitter;
+      this.iso3Language = iso3Language;
+    }
+
+    private List<TranslationChange> filter(List<TranslationChange> changes) {
+      if (iso3Language == null) {
+        return changes;
+      }
+      List<TranslationChange> result = new ArrayList<>();
+      for (TranslationChange change : changes) {
+        if (change.getIso3Language() == null
+            || Objects.equals(iso3Language, change.getIso3Language())) {
+          result.add(change);
+        }
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ooxml.util.SAXHelper;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Read an I18N workbook in a single pass with the POI SAX (event) API, without building the
+ * workbook DOM.
+ * <p>
+ * Every sheet has the same layout : Cat, Name0, Name1, Name2, Name3, Language, Value and, for
+ * Elements and Actions only, Tooltip. The first line is the header. The column after the value of
+ * the Messages sheet holds the Key formula of the export, it is not read.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class I18NWorkbookReader {
+
+  public static final String ELEMENTS_SHEET = "elements";
+  public static final String ACTIONS_SHEET = "actions";
+  public static final String MESSAGES_SHEET = "messages";
+
+  private static final int CATEGORY_COL = 0;
+  private static final int NAME0_COL = 1;
+  private static final int NAME3_COL = 4;
+  private static final int LANGUAGE_COL = 5;
+  private static final int VALUE_COL = 6;
+  private static final int TOOLTIP_COL = 7;
+
+  private I18NWorkbookReader() {
+  }
+
+  /**
+   * @param sheetNames Sheets to read (lower case), all the sheets if empty
+   * @return Rows per lower cased sheet name
+   */
+  public static Map<String, List<TranslationImportRow>> read(InputStream inputStream,
+      String... sheetNames) throws IOException {
+    Set<String> wantedSheets = new HashSet<>(Arrays.asList(sheetNames));
+    Map<String, List<TranslationImportRow>> result = new HashMap<>();
+
+    try (OPCPackage pkg = OPCPackage.open(inputStream)) {
+      XSSFReader xssfReader = new XSSFReader(pkg);
+      ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+      StylesTable styles = xssfReader.getStylesTable();
+      DataFormatter dataFormatter = new DataFormatter();
+
+      XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+      while (sheets.hasNext()) {
+        try (InputStream sheetInputStream = sheets.next()) {
+          String sheetName = sheets.getSheetName().toLowerCase();
+          if (!wantedSheets.isEmpty() && !wantedSheets.contains(sheetName)) {
+            continue;
+          }
+          RowCollector rowCollector = new RowCollector(!MESSAGES_SHEET.equals(sheetName));
+          XMLReader sheetParser = SAXHelper.newXMLReader();
+          sheetParser.setContentHandler(
+              new XSSFSheetXMLHandler(styles, null, strings, rowCollector, dataFormatter, false));
+          sheetParser.parse(new InputSource(sheetInputStream));
+          result.put(sheetName, rowCollector.rows);
+        }
+      }
+    } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+    return result;
+  }
+
+  private static class RowCollector implements SheetContentsHandler {
+
+    private final List<TranslationImportRow> rows = new ArrayList<>();
+    private final String[] cells = new String[TOOLTIP_COL + 1];
+    private final boolean hasTooltip;
+    private boolean isHeader = true;
+    private int currentCol;
+
+    private RowCollector(boolean hasTooltip) {
+      this.hasTooltip = hasTooltip;
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+      Arrays.fill(cells, null);
+      currentCol = -1;
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+      if (isHeader) {
+        isHeader = false;
+        return;
+      }
+      if (currentCol == -1) {
+        return;
+      }
+      String name = null;
+      if (cells[NAME0_COL] != null) {
+        StringBuilder nameBuilder = new StringBuilder(cells[NAME0_COL]);
+        for (int col = NAME0_COL + 1; col <= NAME3_COL; col++) {
+          if (cells[col] != null) {
+            nameBuilder.append('.').append(cells[col]);
+          }
+        }
+        name = nameBuilder.toString();
+      }
+      rows.add(new TranslationImportRow(rowNum + 1, cells[CATEGORY_COL], name,
+          cells[LANGUAGE_COL], cells[VALUE_COL], hasTooltip ? cells[TOOLTIP_COL] : null));
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+      currentCol = cellReference == null ? currentCol + 1
+          : new CellReference(cellReference).getCol();
+      if (currentCol < cells.length && StringUtils.isNotEmpty(formattedValue)) {
+        cells[currentCol] = formattedValue;
+      }
+    }
+
+    @Override
+    public void headerFooter(String text, boolean isHeader, String tagName) {
+    }
+  }
+}
@@ -19,6 +19,7 @@
 package org.jhapy.i18n.listeners;
 
 import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
 import javax.persistence.PostUpdate;
 import org.jhapy.commons.utils.SpringApplicationContext;
 import org.jhapy.i18n.domain.ActionTrl;
@@ -43,6 +44,13 @@ public class ActionTrlListener {
     }
   }
 
+  @PostRemove
+  public void postRemove(ActionTrl actionTrl) {
+    if (getActionTrlService() != null) {
+      getActionTrlService().postRemove(actionTrl);
+    }
+  }
+
   protected ActionTrlService getActionTrlService() {
     if (actionTrlService == null) {
       actionTrlService = SpringApplicationContext.getBean(ActionTrlService.class);
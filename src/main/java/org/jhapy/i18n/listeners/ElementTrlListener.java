@@ -19,6 +19,7 @@
 package org.jhapy.i18n.listeners;
 
 import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
 import javax.persistence.PostUpdate;
 import org.jhapy.commons.utils.SpringApplicationContext;
 import org.jhapy.i18n.domain.ElementTrl;
@@ -43,6 +44,13 @@ public class ElementTrlListener {
     }
   }
 
+  @PostRemove
+  public void postRemove(ElementTrl elementTrl) {
+    if (getElementTrlService() != null) {
+      getElementTrlService().postRemove(elementTrl);
+    }
+  }
+
   protected ElementTrlService getElementTrlService() {
     if (elementTrlService == null) {
       elementTrlService = SpringApplicationContext.getBean(ElementTrlService.class);
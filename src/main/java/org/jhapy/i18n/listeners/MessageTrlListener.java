@@ -19,6 +19,7 @@
 package org.jhapy.i18n.listeners;
 
 import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
 import javax.persistence.PostUpdate;
 import org.jhapy.commons.utils.SpringApplicationContext;
 import org.jhapy.i18n.domain.MessageTrl;
@@ -43,6 +44,13 @@ public class MessageTrlListener {
     }
   }
 
+  @PostRemove
+  public void postRemove(MessageTrl messageTrl) {
+    if (getMessageTrlService() != null) {
+      getMessageTrlService().postRemove(messageTrl);
+    }
+  }
+
   protected MessageTrlService getMessageTrlService() {
     if (messageTrlService == null) {
       messageTrlService = SpringApplicationContext.getBean(MessageTrlService.class);
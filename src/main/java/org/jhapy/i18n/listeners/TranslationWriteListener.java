@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.listeners;
+
+import javax.persistence.PrePersist;
+import javax.persistence.PreRemove;
+import javax.persistence.PreUpdate;
+import org.jhapy.commons.utils.SpringApplicationContext;
+import org.jhapy.i18n.service.OpenTranslationWrites;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers the transaction writing translations or their parents in {@link
+ * OpenTranslationWrites}, when the entity is stamped as modified
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class TranslationWriteListener {
+
+  private OpenTranslationWrites openTranslationWrites;
+
+  @PrePersist
+  @PreUpdate
+  @PreRemove
+  public void preWrite(Object entity) {
+    if (getOpenTranslationWrites() != null) {
+      getOpenTranslationWrites().writeStarted();
+    }
+  }
+
+  protected OpenTranslationWrites getOpenTranslationWrites() {
+    if (openTranslationWrites == null) {
+      openTranslationWrites = SpringApplicationContext.getBean(OpenTranslationWrites.class);
+    }
+    return openTranslationWrites;
+  }
+}
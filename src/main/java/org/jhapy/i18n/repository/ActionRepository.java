@@ -18,13 +18,20 @@
 
 package org.jhapy.i18n.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.javers.spring.annotation.JaversSpringDataAuditable;
 import org.jhapy.i18n.domain.Action;
+import org.jhapy.i18n.search.SearchEntry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -36,15 +43,68 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ActionRepository extends JpaRepository<Action, Long> {
 
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   Optional<Action> getByName(String name);
 
+  List<Action> findByNameIn(Collection<String> names);
+
+  /**
+   * Among the given actions, those flagged as translated (or not flagged) that have at least one
+   * untranslated translation
+   */
+  @Query("SELECT a FROM Action a WHERE a.id IN :actionIds AND (a.isTranslated = true OR a.isTranslated IS NULL) AND EXISTS (SELECT t.id FROM ActionTrl t WHERE t.action.id = a.id AND (t.isTranslated = false OR t.isTranslated IS NULL))")
+  List<Action> findToMarkAsUntranslated(Collection<Long> actionIds);
+
+  /**
+   * Among the given actions, those flagged as untranslated (or not flagged) whose translations are
+   * all translated
+   */
+  @Query("SELECT a FROM Action a WHERE a.id IN :actionIds AND (a.isTranslated = false OR a.isTranslated IS NULL) AND NOT EXISTS (SELECT t.id FROM ActionTrl t WHERE t.action.id = a.id AND (t.isTranslated = false OR t.isTranslated IS NULL))")
+  List<Action> findToMarkAsTranslated(Collection<Long> actionIds);
+
   Page<Action> findByNameLike(String name, Pageable pageable);
 
   long countByNameLike(String name);
 
+  /**
+   * One page of the matching actions, without the count query : the total comes from {@link
+   * #countAnyMatching(String)}, cached by the caller
+   */
   @Query("SELECT DISTINCT a FROM Action a INNER JOIN ActionTrl t ON a.id = t.action.id WHERE a.name like :filter or t.value like :filter")
-  Page<Action> findAnyMatching(String filter, Pageable pageable);
+  List<Action> findAnyMatching(String filter, Pageable pageable);
 
   @Query("SELECT COUNT(DISTINCT a) FROM Action a INNER JOIN ActionTrl t ON a.id = t.action.id WHERE a.name like :filter or t.value like :filter")
   long countAnyMatching(String filter);
+
+  /**
+   * Keyset page of the matching actions without category, after the given name and id. A null
+   * filter matches every action.
+   */
+  @Query("SELECT a FROM Action a WHERE a.category IS NULL AND (a.name > :name OR (a.name = :name AND a.id > :id)) AND (:filter IS NULL OR EXISTS (SELECT t.id FROM ActionTrl t WHERE t.action.id = a.id AND (a.name like :filter or t.value like :filter))) ORDER BY a.name, a.id")
+  List<Action> findAnyMatchingUncategorizedAfter(String filter, String name, Long id,
+      Pageable pageable);
+
+  /**
+   * Keyset page of the matching actions with a category, after the given category, name and id. A
+   * null filter matches every action.
+   */
+  @Query("SELECT a FROM Action a WHERE a.category IS NOT NULL AND (a.category > :category OR (a.category = :category AND (a.name > :name OR (a.name = :name AND a.id > :id)))) AND (:filter IS NULL OR EXISTS (SELECT t.id FROM ActionTrl t WHERE t.action.id = a.id AND (a.name like :filter or t.value like :filter))) ORDER BY a.category, a.name, a.id")
+  List<Action> findAnyMatchingCategorizedAfter(String filter, String category, String name, Long id,
+      Pageable pageable);
+
+  /**
+   * Every action having translations, with its translation values, ordered by action. The stream
+   * has to be consumed (and closed) in a transaction.
+   */
+  @Query("SELECT new org.jhapy.i18n.search.SearchEntry(a.id, a.category, a.name, t.value) FROM Action a INNER JOIN ActionTrl t ON a.id = t.action.id ORDER BY a.id")
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<SearchEntry> streamSearchEntries();
+
+  @Query("SELECT new org.jhapy.i18n.search.SearchEntry(a.id, a.category, a.name, t.value) FROM Action a INNER JOIN ActionTrl t ON a.id = t.action.id WHERE a.id IN :actionIds ORDER BY a.id")
+  List<SearchEntry> findSearchEntries(Collection<Long> actionIds);
+
+  Page<Action> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+  @Query("SELECT e.id FROM Action e WHERE e.modified > :since")
+  List<Long> findIdsModifiedAfter(Instant since);
 }
@@ -18,13 +18,19 @@
 
 package org.jhapy.i18n.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.javers.spring.annotation.JaversSpringDataAuditable;
 import org.jhapy.i18n.domain.Action;
 import org.jhapy.i18n.domain.ActionTrl;
+import org.jhapy.i18n.dto.TranslationEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -40,12 +46,59 @@ public interface ActionTrlRepository extends JpaRepository<ActionTrl, Long> {
 
   long countByAction(Action action);
 
+  List<ActionTrl> findByActionIn(Collection<Action> actions);
+
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   List<ActionTrl> findByIso3Language(String iso3Language);
 
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(a.category, a.name, t.iso3Language, t.value, t.tooltip, t.isTranslated) FROM ActionTrl t INNER JOIN t.action a WHERE t.iso3Language = :iso3Language")
+  List<TranslationEntry> findEntriesByIso3Language(String iso3Language);
+
+  /**
+   * Ids of the actions having a translation, of any language, modified after the given date
+   */
+  @Query("SELECT DISTINCT t.action.id FROM ActionTrl t WHERE t.modified > :since")
+  List<Long> findActionIdsModifiedAfter(Instant since);
+
+  /**
+   * Translations of the language modified after the given date
+   */
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(a.category, a.name, t.iso3Language, t.value, t.tooltip, t.isTranslated) FROM ActionTrl t INNER JOIN t.action a WHERE t.iso3Language = :iso3Language AND t.modified > :since")
+  List<TranslationEntry> findEntriesByIso3LanguageModifiedAfter(String iso3Language, Instant since);
+
+  /**
+   * Translations of the language whose action was modified after the given date (rename...)
+   */
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(a.category, a.name, t.iso3Language, t.value, t.tooltip, t.isTranslated) FROM ActionTrl t INNER JOIN t.action a WHERE t.iso3Language = :iso3Language AND a.modified > :since")
+  List<TranslationEntry> findEntriesByIso3LanguageWithActionModifiedAfter(String iso3Language,
+      Instant since);
+
+  /**
+   * Every action with its translations, ordered for the export. When there is no translation the
+   * action is returned once, with a null language. The stream has to be consumed (and closed) in a
+   * transaction.
+   */
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(a.category, a.name, t.iso3Language, t.value, t.tooltip, t.isTranslated) FROM Action a LEFT JOIN ActionTrl t ON a.id = t.action.id ORDER BY a.category, a.name, t.iso3Language")
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<TranslationEntry> streamAllEntries();
+
   @Query("SELECT distinct(iso3Language) from ActionTrl order by iso3Language")
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   List<String> getIso3Languages();
 
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   Optional<ActionTrl> getByActionAndIso3Language(Action action, String iso3Language);
 
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
+  Optional<ActionTrl> getByActionNameAndIso3Language(String name, String iso3Language);
+
+  @Query("SELECT t FROM ActionTrl t JOIN FETCH t.action p WHERE p.name IN :names AND t.iso3Language = :iso3Language")
+  List<ActionTrl> findByActionNameInAndIso3Language(Collection<String> names,
+      String iso3Language);
+
+  @Query("SELECT t FROM ActionTrl t JOIN FETCH t.action p WHERE p.name IN :names AND t.isDefault = true")
+  List<ActionTrl> findDefaultsByActionNameIn(Collection<String> names);
+
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   Optional<ActionTrl> getByActionAndIsDefault(Action action, Boolean isDefault);
 }
@@ -18,13 +18,20 @@
 
 package org.jhapy.i18n.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.javers.spring.annotation.JaversSpringDataAuditable;
 import org.jhapy.i18n.domain.Element;
+import org.jhapy.i18n.search.SearchEntry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -36,15 +43,68 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ElementRepository extends JpaRepository<Element, Long> {
 
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   Optional<Element> getByName(String name);
 
+  List<Element> findByNameIn(Collection<String> names);
+
+  /**
+   * Among the given elements, those flagged as translated (or not flagged) that have at least one
+   * untranslated translation
+   */
+  @Query("SELECT e FROM Element e WHERE e.id IN :elementIds AND (e.isTranslated = true OR e.isTranslated IS NULL) AND EXISTS (SELECT t.id FROM ElementTrl t WHERE t.element.id = e.id AND (t.isTranslated = false OR t.isTranslated IS NULL))")
+  List<Element> findToMarkAsUntranslated(Collection<Long> elementIds);
+
+  /**
+   * Among the given elements, those flagged as untranslated (or not flagged) whose translations are
+   * all translated
+   */
+  @Query("SELECT e FROM Element e WHERE e.id IN :elementIds AND (e.isTranslated = false OR e.isTranslated IS NULL) AND NOT EXISTS (SELECT t.id FROM ElementTrl t WHERE t.element.id = e.id AND (t.isTranslated = false OR t.isTranslated IS NULL))")
+  List<Element> findToMarkAsTranslated(Collection<Long> elementIds);
+
   Page<Element> findByNameLike(String name, Pageable pageable);
 
   long countByNameLike(String name);
 
+  /**
+   * One page of the matching elements, without the count query : the total comes from {@link
+   * #countAnyMatching(String)}, cached by the caller
+   */
   @Query("SELECT DISTINCT a FROM Element a INNER JOIN ElementTrl t ON a.id = t.element.id WHERE a.name like :filter or t.value like :filter")
-  Page<Element> findAnyMatching(String filter, Pageable pageable);
+  List<Element> findAnyMatching(String filter, Pageable pageable);
 
   @Query("SELECT COUNT(DISTINCT a) FROM Element a INNER JOIN ElementTrl t ON a.id = t.element.id WHERE a.name like :filter or t.value like :filter")
   long countAnyMatching(String filter);
+
+  /**
+   * Keyset page of the matching elements without category, after the given name and id. A null
+   * filter matches every element.
+   */
+  @Query("SELECT a FROM Element a WHERE a.category IS NULL AND (a.name > :name OR (a.name = :name AND a.id > :id)) AND (:filter IS NULL OR EXISTS (SELECT t.id FROM ElementTrl t WHERE t.element.id = a.id AND (a.name like :filter or t.value like :filter))) ORDER BY a.name, a.id")
+  List<Element> findAnyMatchingUncategorizedAfter(String filter, String name, Long id,
+      Pageable pageable);
+
+  /**
+   * Keyset page of the matching elements with a category, after the given category, name and id. A
+   * null filter matches every element.
+   */
+  @Query("SELECT a FROM Element a WHERE a.category IS NOT NULL AND (a.category > :category OR (a.category = :category AND (a.name > :name OR (a.name = :name AND a.id > :id)))) AND (:filter IS NULL OR EXISTS (SELECT t.id FROM ElementTrl t WHERE t.element.id = a.id AND (a.name like :filter or t.value like :filter))) ORDER BY a.category, a.name, a.id")
+  List<Element> findAnyMatchingCategorizedAfter(String filter, String category, String name,
+      Long id, Pageable pageable);
+
+  /**
+   * Every element having translations, with its translation values, ordered by element. The stream
+   * has to be consumed (and closed) in a transaction.
+   */
+  @Query("SELECT new org.jhapy.i18n.search.SearchEntry(e.id, e.category, e.name, t.value) FROM Element e INNER JOIN ElementTrl t ON e.id = t.element.id ORDER BY e.id")
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<SearchEntry> streamSearchEntries();
+
+  @Query("SELECT new org.jhapy.i18n.search.SearchEntry(e.id, e.category, e.name, t.value) FROM Element e INNER JOIN ElementTrl t ON e.id = t.element.id WHERE e.id IN :elementIds ORDER BY e.id")
+  List<SearchEntry> findSearchEntries(Collection<Long> elementIds);
+
+  Page<Element> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+  @Query("SELECT e.id FROM Element e WHERE e.modified > :since")
+  List<Long> findIdsModifiedAfter(Instant since);
 }
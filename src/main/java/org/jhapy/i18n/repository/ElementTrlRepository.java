@@ -18,13 +18,19 @@
 
 package org.jhapy.i18n.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.javers.spring.annotation.JaversSpringDataAuditable;
 import org.jhapy.i18n.domain.Element;
 import org.jhapy.i18n.domain.ElementTrl;
+import org.jhapy.i18n.dto.TranslationEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -41,13 +47,60 @@ public interface ElementTrlRepository extends JpaRepository<ElementTrl, Long> {
   List<ElementTrl> findByElementOrderByIso3Language(Element element);
 
   @Query("SELECT distinct(iso3Language) from ElementTrl order by iso3Language")
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   List<String> getIso3Languages();
 
   long countByElement(Element element);
 
+  List<ElementTrl> findByElementIn(Collection<Element> elements);
+
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   List<ElementTrl> findByIso3Language(String iso3Language);
 
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(e.category, e.name, t.iso3Language, t.value, t.tooltip, t.isTranslated) FROM ElementTrl t INNER JOIN t.element e WHERE t.iso3Language = :iso3Language")
+  List<TranslationEntry> findEntriesByIso3Language(String iso3Language);
+
+  /**
+   * Ids of the elements having a translation, of any language, modified after the given date
+   */
+  @Query("SELECT DISTINCT t.element.id FROM ElementTrl t WHERE t.modified > :since")
+  List<Long> findElementIdsModifiedAfter(Instant since);
+
+  /**
+   * Translations of the language modified after the given date
+   */
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(e.category, e.name, t.iso3Language, t.value, t.tooltip, t.isTranslated) FROM ElementTrl t INNER JOIN t.element e WHERE t.iso3Language = :iso3Language AND t.modified > :since")
+  List<TranslationEntry> findEntriesByIso3LanguageModifiedAfter(String iso3Language, Instant since);
+
+  /**
+   * Translations of the language whose element was modified after the given date (rename...)
+   */
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(e.category, e.name, t.iso3Language, t.value, t.tooltip, t.isTranslated) FROM ElementTrl t INNER JOIN t.element e WHERE t.iso3Language = :iso3Language AND e.modified > :since")
+  List<TranslationEntry> findEntriesByIso3LanguageWithElementModifiedAfter(String iso3Language,
+      Instant since);
+
+  /**
+   * Every element with its translations, ordered for the export. When there is no translation the
+   * element is returned once, with a null language. The stream has to be consumed (and closed) in a
+   * transaction.
+   */
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(e.category, e.name, t.iso3Language, t.value, t.tooltip, t.isTranslated) FROM Element e LEFT JOIN ElementTrl t ON e.id = t.element.id ORDER BY e.category, e.name, t.iso3Language")
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<TranslationEntry> streamAllEntries();
+
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   Optional<ElementTrl> getByElementAndIso3Language(Element element, String iso3Language);
 
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
+  Optional<ElementTrl> getByElementNameAndIso3Language(String name, String iso3Language);
+
+  @Query("SELECT t FROM ElementTrl t JOIN FETCH t.element p WHERE p.name IN :names AND t.iso3Language = :iso3Language")
+  List<ElementTrl> findByElementNameInAndIso3Language(Collection<String> names,
+      String iso3Language);
+
+  @Query("SELECT t FROM ElementTrl t JOIN FETCH t.element p WHERE p.name IN :names AND t.isDefault = true")
+  List<ElementTrl> findDefaultsByElementNameIn(Collection<String> names);
+
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   Optional<ElementTrl> getByElementAndIsDefault(Element element, Boolean isDefault);
 }
@@ -18,13 +18,20 @@
 
 package org.jhapy.i18n.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.javers.spring.annotation.JaversSpringDataAuditable;
 import org.jhapy.i18n.domain.Message;
+import org.jhapy.i18n.search.SearchEntry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -36,15 +43,68 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   Optional<Message> getByName(String name);
 
+  List<Message> findByNameIn(Collection<String> names);
+
+  /**
+   * Among the given messages, those flagged as translated (or not flagged) that have at least one
+   * untranslated translation
+   */
+  @Query("SELECT m FROM Message m WHERE m.id IN :messageIds AND (m.isTranslated = true OR m.isTranslated IS NULL) AND EXISTS (SELECT t.id FROM MessageTrl t WHERE t.message.id = m.id AND (t.isTranslated = false OR t.isTranslated IS NULL))")
+  List<Message> findToMarkAsUntranslated(Collection<Long> messageIds);
+
+  /**
+   * Among the given messages, those flagged as untranslated (or not flagged) whose translations are
+   * all translated
+   */
+  @Query("SELECT m FROM Message m WHERE m.id IN :messageIds AND (m.isTranslated = false OR m.isTranslated IS NULL) AND NOT EXISTS (SELECT t.id FROM MessageTrl t WHERE t.message.id = m.id AND (t.isTranslated = false OR t.isTranslated IS NULL))")
+  List<Message> findToMarkAsTranslated(Collection<Long> messageIds);
+
   Page<Message> findByNameLike(String name, Pageable pageable);
 
   long countByNameLike(String name);
 
+  /**
+   * One page of the matching messages, without the count query : the total comes from {@link
+   * #countAnyMatching(String)}, cached by the caller
+   */
   @Query("SELECT DISTINCT a FROM Message a INNER JOIN MessageTrl t ON a.id = t.message.id WHERE a.category like :filter or a.name like :filter or t.value like :filter")
-  Page<Message> findAnyMatching(String filter, Pageable pageable);
+  List<Message> findAnyMatching(String filter, Pageable pageable);
 
   @Query("SELECT COUNT(DISTINCT a) FROM Message a INNER JOIN MessageTrl t ON a.id = t.message.id WHERE a.category like :filter or a.name like :filter or t.value like :filter")
   long countAnyMatching(String filter);
+
+  /**
+   * Keyset page of the matching messages without category, after the given name and id. A null
+   * filter matches every message.
+   */
+  @Query("SELECT a FROM Message a WHERE a.category IS NULL AND (a.name > :name OR (a.name = :name AND a.id > :id)) AND (:filter IS NULL OR EXISTS (SELECT t.id FROM MessageTrl t WHERE t.message.id = a.id AND (a.category like :filter or a.name like :filter or t.value like :filter))) ORDER BY a.name, a.id")
+  List<Message> findAnyMatchingUncategorizedAfter(String filter, String name, Long id,
+      Pageable pageable);
+
+  /**
+   * Keyset page of the matching messages with a category, after the given category, name and id. A
+   * null filter matches every message.
+   */
+  @Query("SELECT a FROM Message a WHERE a.category IS NOT NULL AND (a.category > :category OR (a.category = :category AND (a.name > :name OR (a.name = :name AND a.id > :id)))) AND (:filter IS NULL OR EXISTS (SELECT t.id FROM MessageTrl t WHERE t.message.id = a.id AND (a.category like :filter or a.name like :filter or t.value like :filter))) ORDER BY a.category, a.name, a.id")
+  List<Message> findAnyMatchingCategorizedAfter(String filter, String category, String name,
+      Long id, Pageable pageable);
+
+  /**
+   * Every message having translations, with its translation values, ordered by message. The stream
+   * has to be consumed (and closed) in a transaction.
+   */
+  @Query("SELECT new org.jhapy.i18n.search.SearchEntry(m.id, m.category, m.name, t.value) FROM Message m INNER JOIN MessageTrl t ON m.id = t.message.id ORDER BY m.id")
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<SearchEntry> streamSearchEntries();
+
+  @Query("SELECT new org.jhapy.i18n.search.SearchEntry(m.id, m.category, m.name, t.value) FROM Message m INNER JOIN MessageTrl t ON m.id = t.message.id WHERE m.id IN :messageIds ORDER BY m.id")
+  List<SearchEntry> findSearchEntries(Collection<Long> messageIds);
+
+  Page<Message> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+  @Query("SELECT e.id FROM Message e WHERE e.modified > :since")
+  List<Long> findIdsModifiedAfter(Instant since);
 }
@@ -18,13 +18,19 @@
 
 package org.jhapy.i18n.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.javers.spring.annotation.JaversSpringDataAuditable;
 import org.jhapy.i18n.domain.Message;
 import org.jhapy.i18n.domain.MessageTrl;
+import org.jhapy.i18n.dto.TranslationEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -40,12 +46,59 @@ public interface MessageTrlRepository extends JpaRepository<MessageTrl, Long> {
 
   long countByMessage(Message message);
 
+  List<MessageTrl> findByMessageIn(Collection<Message> messages);
+
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   List<MessageTrl> findByIso3Language(String iso3Language);
 
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(m.category, m.name, t.iso3Language, t.value, t.isTranslated) FROM MessageTrl t INNER JOIN t.message m WHERE t.iso3Language = :iso3Language")
+  List<TranslationEntry> findEntriesByIso3Language(String iso3Language);
+
+  /**
+   * Ids of the messages having a translation, of any language, modified after the given date
+   */
+  @Query("SELECT DISTINCT t.message.id FROM MessageTrl t WHERE t.modified > :since")
+  List<Long> findMessageIdsModifiedAfter(Instant since);
+
+  /**
+   * Translations of the language modified after the given date
+   */
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(m.category, m.name, t.iso3Language, t.value, t.isTranslated) FROM MessageTrl t INNER JOIN t.message m WHERE t.iso3Language = :iso3Language AND t.modified > :since")
+  List<TranslationEntry> findEntriesByIso3LanguageModifiedAfter(String iso3Language, Instant since);
+
+  /**
+   * Translations of the language whose message was modified after the given date (rename...)
+   */
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(m.category, m.name, t.iso3Language, t.value, t.isTranslated) FROM MessageTrl t INNER JOIN t.message m WHERE t.iso3Language = :iso3Language AND m.modified > :since")
+  List<TranslationEntry> findEntriesByIso3LanguageWithMessageModifiedAfter(String iso3Language,
+      Instant since);
+
+  /**
+   * Every message with its translations, ordered for the export. When there is no translation the
+   * message is returned once, with a null language. The stream has to be consumed (and closed) in a
+   * transaction.
+   */
+  @Query("SELECT new org.jhapy.i18n.dto.TranslationEntry(m.category, m.name, t.iso3Language, t.value, t.isTranslated) FROM Message m LEFT JOIN MessageTrl t ON m.id = t.message.id ORDER BY m.category, m.name, t.iso3Language")
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<TranslationEntry> streamAllEntries();
+
   @Query("SELECT distinct(iso3Language) from MessageTrl order by iso3Language")
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   List<String> getIso3Languages();
 
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   Optional<MessageTrl> getByMessageAndIso3Language(Message message, String iso3Language);
 
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
+  Optional<MessageTrl> getByMessageNameAndIso3Language(String name, String iso3Language);
+
+  @Query("SELECT t FROM MessageTrl t JOIN FETCH t.message p WHERE p.name IN :names AND t.iso3Language = :iso3Language")
+  List<MessageTrl> findByMessageNameInAndIso3Language(Collection<String> names,
+      String iso3Language);
+
+  @Query("SELECT t FROM MessageTrl t JOIN FETCH t.message p WHERE p.name IN :names AND t.isDefault = true")
+  List<MessageTrl> findDefaultsByMessageNameIn(Collection<String> names);
+
+  @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
   Optional<MessageTrl> getByMessageAndIsDefault(Message message, Boolean isDefault);
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.repository;
+
+import java.time.Instant;
+import java.util.List;
+import org.jhapy.i18n.domain.TranslationTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface TranslationTombstoneRepository extends JpaRepository<TranslationTombstone, Long> {
+
+  /**
+   * Tombstones of the given language, and of every language, created after the given date
+   */
+  @Query("SELECT t FROM TranslationTombstone t WHERE t.created > :since AND (t.iso3Language = :iso3Language OR t.iso3Language IS NULL)")
+  List<TranslationTombstone> findCreatedAfter(String iso3Language, Instant since);
+
+  /**
+   * Tombstones of every language created after the given date
+   */
+  List<TranslationTombstone> findByCreatedAfter(Instant since);
+
+  @Modifying
+  @Query("DELETE FROM TranslationTombstone t WHERE t.created < :before")
+  int deleteCreatedBefore(Instant before);
+}
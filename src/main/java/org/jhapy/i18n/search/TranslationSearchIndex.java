@@ -0,0 +1,377 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In memory inverted index of the Elements, Actions or Messages, searched with the same LIKE
+ * filters as the findAnyMatching queries.
+ * <p>
+ * A document is a parent with its name, its category (when searched) and the values of its
+ * translations. The words of these fields are indexed, and a filter is resolved in two steps : the
+ * documents holding, for each word of the filter, a word that contains it are the candidates, then
+ * the filter is checked on the fields of each candidate, case insensitive.
+ * <p>
+ * The indexed words are themselves indexed by trigram, so the words containing a searched word
+ * (infix search) are found from its rarest trigram instead of a scan of all the words. Words
+ * shorter than a trigram still scan the words.
+ * <p>
+ * Matching is case insensitive but, unlike the usual _ci collations of the database, accent
+ * sensitive, and a backslash is a literal character rather than an escape.
+ * <p>
+ * Results are ranked : a match on the name first, then on the category, then on a value, with a
+ * bonus when a word of the name starts with the searched word.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TranslationSearchIndex {
+
+  private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final Pattern LIKE_WILDCARD = Pattern.compile("[%_]");
+
+  private static final int NAME_WEIGHT = 4;
+  private static final int CATEGORY_WEIGHT = 2;
+  private static final int VALUE_WEIGHT = 1;
+  private static final int PREFIX_BONUS = 2;
+
+  private static final int NGRAM_LENGTH = 3;
+
+  private final boolean searchCategory;
+
+  private final Map<Long, Document> documents = new HashMap<>();
+  private final Map<String, Set<Long>> postings = new HashMap<>();
+  private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * @param searchCategory Whether the category is searched, as in the Message query
+   */
+  public TranslationSearchIndex(boolean searchCategory) {
+    this.searchCategory = searchCategory;
+  }
+
+  /**
+   * Add or replace a document
+   */
+  public void index(Long id, String name, String category, List<String> values) {
+    Document document = new Document(id, name, searchCategory ? category : null, values);
+    lock.writeLock().lock();
+    try {
+      removeDocument(id);
+      documents.put(id, document);
+      for (String word : document.words) {
+        postings.computeIfAbsent(word, this::addWord).add(id);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long id) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      documents.clear();
+      postings.clear();
+      wordsByTrigram.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @return the ids of the documents with one of the given names
+   */
+  public Set<Long> findIdsByName(Collection<String> names) {
+    Set<Long> ids = new HashSet<>();
+    lock.readLock().lock();
+    try {
+      for (Document document : documents.values()) {
+        if (names.contains(document.name)) {
+          ids.add(document.id);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return ids;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @param filter LIKE pattern (% and _ wildcards)
+   * @return the ids of the matching documents, best match first
+   */
+  public List<Long> search(String filter) {
+    Pattern pattern = toPattern(filter);
+    List<String> searchedWords = getWords(filter);
+    String searchedWord = searchedWords.isEmpty() ? null : searchedWords.get(0);
+
+    List<Document> matches = new ArrayList<>();
+    Map<Document, Integer> scores = new HashMap<>();
+    lock.readLock().lock();
+    try {
+      Collection<Long> candidates =
+          searchedWords.isEmpty() ? documents.keySet() : findCandidates(searchedWords);
+      for (Long id : candidates) {
+        Document document = documents.get(id);
+        int score = document.score(pattern, searchedWord);
+        if (score > 0) {
+          matches.add(document);
+          scores.put(document, score);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    matches.sort(Comparator.<Document>comparingInt(scores::get).reversed()
+        .thenComparing(document -> document.name, Comparator.nullsLast(Comparator.naturalOrder())));
+    List<Long> ids = new ArrayList<>(matches.size());
+    for (Document document : matches) {
+      ids.add(document.id);
+    }
+    return ids;
+  }
+
+  /**
+   * Documents holding, for each searched word, a word that contains it. Only the words long
+   * enough to use the trigrams are intersected, unless there is none.
+   *
+   * @param searchedWords longest first
+   */
+  private Collection<Long> findCandidates(List<String> searchedWords) {
+    Set<Long> candidates = null;
+    for (String searchedWord : searchedWords) {
+      if (candidates != null && searchedWord.length() < NGRAM_LENGTH) {
+        break;
+      }
+      Set<Long> wordCandidates = new HashSet<>();
+      for (String word : findWordsContaining(searchedWord)) {
+        Set<Long> posting = postings.get(word);
+        if (candidates == null) {
+          wordCandidates.addAll(posting);
+        } else {
+          for (Long id : posting) {
+            if (candidates.contains(id)) {
+              wordCandidates.add(id);
+            }
+          }
+        }
+      }
+      candidates = wordCandidates;
+      if (candidates.isEmpty()) {
+        break;
+      }
+    }
+    return candidates;
+  }
+
+  private Collection<String> findWordsContaining(String searchedWord) {
+    Collection<String> words;
+    if (searchedWord.length() < NGRAM_LENGTH) {
+      words = postings.keySet();
+    } else {
+      words = null;
+      for (String trigram : toTrigrams(searchedWord)) {
+        Set<String> trigramWords = wordsByTrigram.get(trigram);
+        if (trigramWords == null) {
+          return new ArrayList<>();
+        }
+        if (words == null || trigramWords.size() < words.size()) {
+          words = trigramWords;
+        }
+      }
+    }
+    List<String> result = new ArrayList<>();
+    for (String word : words) {
+      if (word.contains(searchedWord)) {
+        result.add(word);
+      }
+    }
+    return result;
+  }
+
+  private Set<Long> addWord(String word) {
+    for (String trigram : toTrigrams(word)) {
+      wordsByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(word);
+    }
+    return new HashSet<>();
+  }
+
+  private void removeWord(String word) {
+    postings.remove(word);
+    for (String trigram : toTrigrams(word)) {
+      Set<String> trigramWords = wordsByTrigram.get(trigram);
+      if (trigramWords != null) {
+        trigramWords.remove(word);
+        if (trigramWords.isEmpty()) {
+          wordsByTrigram.remove(trigram);
+        }
+      }
+    }
+  }
+
+  private void removeDocument(Long id) {
+    Document previous = documents.remove(id);
+    if (previous == null) {
+      return;
+    }
+    for (String word : previous.words) {
+      Set<Long> posting = postings.get(word);
+      if (posting != null) {
+        posting.remove(id);
+        if (posting.isEmpty()) {
+          removeWord(word);
+        }
+      }
+    }
+  }
+
+  static Set<String> toWords(String text) {
+    Set<String> words = new HashSet<>();
+    if (text != null) {
+      for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+        if (!word.isEmpty()) {
+          words.add(word);
+        }
+      }
+    }
+    return words;
+  }
+
+  /**
+   * Words of the literal parts of the filter, longest first
+   */
+  static List<String> getWords(String filter) {
+    Set<String> words = new HashSet<>();
+    for (String part : LIKE_WILDCARD.split(filter)) {
+      words.addAll(toWords(part));
+    }
+    List<String> result = new ArrayList<>(words);
+    result.sort(Comparator.comparingInt(String::length).reversed()
+        .thenComparing(Comparator.naturalOrder()));
+    return result;
+  }
+
+  static Set<String> toTrigrams(String word) {
+    Set<String> trigrams = new HashSet<>();
+    for (int i = 0; i + NGRAM_LENGTH <= word.length(); i++) {
+      trigrams.add(word.substring(i, i + NGRAM_LENGTH));
+    }
+    return trigrams;
+  }
+
+  /**
+   * The LIKE filter as a case insensitive regular expression matching the whole text
+   */
+  static Pattern toPattern(String filter) {
+    StringBuilder regex = new StringBuilder();
+    StringBuilder literal = new StringBuilder();
+    for (char c : filter.toCharArray()) {
+      if (c == '%' || c == '_') {
+        if (literal.length() > 0) {
+          regex.append(Pattern.quote(literal.toString()));
+          literal.setLength(0);
+        }
+        regex.append(c == '%' ? ".*" : ".");
+      } else {
+        literal.append(c);
+      }
+    }
+    if (literal.length() > 0) {
+      regex.append(Pattern.quote(literal.toString()));
+    }
+    return Pattern.compile(regex.toString(),
+        Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL);
+  }
+
+  private static class Document {
+
+    private final Long id;
+    private final String name;
+    private final String category;
+    private final List<String> values;
+    private final Set<String> nameWords;
+    private final Set<String> words = new HashSet<>();
+
+    private Document(Long id, String name, String category, List<String> values) {
+      this.id = id;
+      this.name = name;
+      this.category = category;
+      this.values = values;
+      this.nameWords = toWords(name);
+      words.addAll(nameWords);
+      words.addAll(toWords(category));
+      for (String value : values) {
+        words.addAll(toWords(value));
+      }
+    }
+
+    private int score(Pattern pattern, String searchedWord) {
+      int score = 0;
+      if (name != null && pattern.matcher(name).matches()) {
+        score += NAME_WEIGHT;
+        if (searchedWord != null && nameWords.stream().anyMatch(w -> w.startsWith(searchedWord))) {
+          score += PREFIX_BONUS;
+        }
+      }
+      if (category != null && pattern.matcher(category).matches()) {
+        score += CATEGORY_WEIGHT;
+      }
+      for (String value : values) {
+        if (value != null && pattern.matcher(value).matches()) {
+          score += VALUE_WEIGHT;
+          break;
+        }
+      }
+      return score;
+    }
+  }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.search;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.jhapy.commons.utils.HasLogger;
+import org.jhapy.i18n.domain.BaseEntity;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.domain.TranslationTombstone;
+import org.jhapy.i18n.event.TranslationChange;
+import org.jhapy.i18n.event.TranslationsChangedEvent;
+import org.jhapy.i18n.repository.ActionRepository;
+import org.jhapy.i18n.repository.ActionTrlRepository;
+import org.jhapy.i18n.repository.ElementRepository;
+import org.jhapy.i18n.repository.ElementTrlRepository;
+import org.jhapy.i18n.repository.MessageRepository;
+import org.jhapy.i18n.repository.MessageTrlRepository;
+import org.jhapy.i18n.repository.TranslationTombstoneRepository;
+import org.jhapy.i18n.service.OpenTranslationWrites;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps one {@link TranslationSearchIndex} per translation family.
+ * <p>
+ * The indexes are built once the application is ready, then each committed change (local or
+ * received from another node) reloads the documents of the changed parents. As the changes of the
+ * other nodes are only received when the broadcast is enabled, every node also catches up
+ * periodically ({@code jhapy.i18n.search.catchUpMillis}) : it reloads the parents modified since
+ * the last sync, or whose translations were modified or deleted, the same way as changesSince.
+ * <p>
+ * All the updates run in order on a single thread. Until the first build is done, {@link
+ * #search(TranslationFamily, String)} returns null and the callers use the database.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class TranslationSearchIndexer implements HasLogger, DisposableBean {
+
+  /**
+   * Maximum number of ids in an IN query
+   */
+  private static final int CHUNK_SIZE = 500;
+
+  private final ElementRepository elementRepository;
+  private final ActionRepository actionRepository;
+  private final MessageRepository messageRepository;
+  private final ElementTrlRepository elementTrlRepository;
+  private final ActionTrlRepository actionTrlRepository;
+  private final MessageTrlRepository messageTrlRepository;
+  private final TranslationTombstoneRepository translationTombstoneRepository;
+  private final OpenTranslationWrites openTranslationWrites;
+  private final TransactionTemplate readOnlyTransactionTemplate;
+  private final ThreadPoolTaskExecutor indexThreadPool;
+  private final Map<TranslationFamily, TranslationSearchIndex> indexes = new EnumMap<>(
+      TranslationFamily.class);
+
+  private volatile boolean ready = false;
+
+  /**
+   * Every change committed before is in the indexes, only used by the index thread
+   */
+  private Instant lastSync;
+
+  @Value("${jhapy.i18n.search.enabled:true}")
+  private boolean enabled;
+
+  @Value("${jhapy.i18n.changes.overlapSeconds:60}")
+  private long overlapSeconds;
+
+  public TranslationSearchIndexer(ElementRepository elementRepository,
+      ActionRepository actionRepository, MessageRepository messageRepository,
+      ElementTrlRepository elementTrlRepository, ActionTrlRepository actionTrlRepository,
+      MessageTrlRepository messageTrlRepository,
+      TranslationTombstoneRepository translationTombstoneRepository,
+      OpenTranslationWrites openTranslationWrites,
+      PlatformTransactionManager transactionManager) {
+    this.elementRepository = elementRepository;
+    this.actionRepository = actionRepository;
+    this.messageRepository = messageRepository;
+    this.elementTrlRepository = elementTrlRepository;
+    this.actionTrlRepository = actionTrlRepository;
+    this.messageTrlRepository = messageTrlRepository;
+    this.translationTombstoneRepository = translationTombstoneRepository;
+    this.openTranslationWrites = openTranslationWrites;
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+
+    this.indexThreadPool = new ThreadPoolTaskExecutor();
+    this.indexThreadPool.setCorePoolSize(1);
+    this.indexThreadPool.setMaxPoolSize(1);
+    this.indexThreadPool.setThreadNamePrefix("i18n-search-");
+    this.indexThreadPool.initialize();
+
+    indexes.put(TranslationFamily.ELEMENT, new TranslationSearchIndex(false));
+    indexes.put(TranslationFamily.ACTION, new TranslationSearchIndex(false));
+    indexes.put(TranslationFamily.MESSAGE, new TranslationSearchIndex(true));
+  }
+
+  @Override
+  public void destroy() {
+    indexThreadPool.shutdown();
+  }
+
+  /**
+   * @return the ids of the parents matching the LIKE filter, best match first, or null when the
+   * index is not available
+   */
+  public List<Long> search(TranslationFamily family, String filter) {
+    if (!ready) {
+      return null;
+    }
+    return indexes.get(family).search(filter);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (enabled) {
+      indexThreadPool.execute(this::build);
+    }
+  }
+
+  @EventListener
+  public void onTranslationsChanged(TranslationsChangedEvent event) {
+    if (!enabled) {
+      return;
+    }
+    Map<TranslationFamily, Set<Long>> parentIds = new EnumMap<>(TranslationFamily.class);
+    for (TranslationChange change : event.getChanges()) {
+      if (change.getParentId() != null) {
+        parentIds.computeIfAbsent(change.getFamily(), f -> new HashSet<>())
+            .add(change.getParentId());
+      }
+    }
+    if (!parentIds.isEmpty()) {
+      indexThreadPool.execute(() -> parentIds.forEach(this::update));
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${jhapy.i18n.search.catchUpMillis:30000}")
+  public void catchUp() {
+    if (enabled && ready) {
+      indexThreadPool.execute(this::catchUpChanges);
+    }
+  }
+
+  protected void build() {
+    String loggerPrefix = getLoggerPrefix("build");
+
+    long start = System.currentTimeMillis();
+    Instant syncPoint = openTranslationWrites.getCommittedUntil(overlapSeconds);
+    try {
+      readOnlyTransactionTemplate.executeWithoutResult(status -> {
+        try (Stream<SearchEntry> entries = elementRepository.streamSearchEntries()) {
+          fill(indexes.get(TranslationFamily.ELEMENT), entries);
+        }
+        try (Stream<SearchEntry> entries = actionRepository.streamSearchEntries()) {
+          fill(indexes.get(TranslationFamily.ACTION), entries);
+        }
+        try (Stream<SearchEntry> entries = messageRepository.streamSearchEntries()) {
+          fill(indexes.get(TranslationFamily.MESSAGE), entries);
+        }
+      });
+      lastSync = syncPoint;
+      ready = true;
+      logger().info(loggerPrefix + "Search indexes built in "
+          + (System.currentTimeMillis() - start) + " ms : "
+          + indexes.get(TranslationFamily.ELEMENT).size() + " elements, "
+          + indexes.get(TranslationFamily.ACTION).size() + " actions, "
+          + indexes.get(TranslationFamily.MESSAGE).size() + " messages");
+    } catch (Exception e) {
+      logger().error(loggerPrefix + "Search indexes not available : " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reload the parents changed since the last sync, committed on any node
+   */
+  protected void catchUpChanges() {
+    String loggerPrefix = getLoggerPrefix("catchUpChanges");
+
+    Instant since = lastSync;
+    Instant syncPoint = openTranslationWrites.getCommittedUntil(overlapSeconds);
+    try {
+      Map<TranslationFamily, Set<Long>> parentIds = readOnlyTransactionTemplate
+          .execute(status -> findChangedParents(since));
+      boolean updated = true;
+      for (Map.Entry<TranslationFamily, Set<Long>> familyParentIds : parentIds.entrySet()) {
+        if (!familyParentIds.getValue().isEmpty()) {
+          updated &= update(familyParentIds.getKey(), familyParentIds.getValue());
+        }
+      }
+      // Retried from the same point when an update failed
+      if (updated && syncPoint.isAfter(since)) {
+        lastSync = syncPoint;
+      }
+    } catch (Exception e) {
+      logger().error(loggerPrefix + "Search indexes not caught up : " + e.getMessage(), e);
+    }
+  }
+
+  private Map<TranslationFamily, Set<Long>> findChangedParents(Instant since) {
+    Map<TranslationFamily, Set<Long>> parentIds = new EnumMap<>(TranslationFamily.class);
+    parentIds.put(TranslationFamily.ELEMENT,
+        new HashSet<>(elementRepository.findIdsModifiedAfter(since)));
+    parentIds.get(TranslationFamily.ELEMENT)
+        .addAll(elementTrlRepository.findElementIdsModifiedAfter(since));
+    parentIds.put(TranslationFamily.ACTION,
+        new HashSet<>(actionRepository.findIdsModifiedAfter(since)));
+    parentIds.get(TranslationFamily.ACTION)
+        .addAll(actionTrlRepository.findActionIdsModifiedAfter(since));
+    parentIds.put(TranslationFamily.MESSAGE,
+        new HashSet<>(messageRepository.findIdsModifiedAfter(since)));
+    parentIds.get(TranslationFamily.MESSAGE)
+        .addAll(messageTrlRepository.findMessageIdsModifiedAfter(since));
+
+    // Deleted translations and parents : their documents are found by name
+    Map<TranslationFamily, Set<String>> deletedNames = new EnumMap<>(TranslationFamily.class);
+    for (TranslationTombstone tombstone : translationTombstoneRepository
+        .findByCreatedAfter(since)) {
+      deletedNames.computeIfAbsent(tombstone.getFamily(), family -> new HashSet<>())
+          .add(tombstone.getName());
+    }
+    deletedNames.forEach((family, names) -> parentIds.get(family)
+        .addAll(indexes.get(family).findIdsByName(names)));
+    return parentIds;
+  }
+
+  /**
+   * @return false when the update failed
+   */
+  protected boolean update(TranslationFamily family, Set<Long> parentIds) {
+    String loggerPrefix = getLoggerPrefix("update", family);
+
+    TranslationSearchIndex index = indexes.get(family);
+    List<Long> ids = new ArrayList<>(parentIds);
+    try {
+      for (int fromIndex = 0; fromIndex < ids.size(); fromIndex += CHUNK_SIZE) {
+        List<Long> chunk = ids.subList(fromIndex, Math.min(fromIndex + CHUNK_SIZE, ids.size()));
+        List<SearchEntry> entries = readOnlyTransactionTemplate
+            .execute(status -> findSearchEntries(family, chunk));
+        Set<Long> indexed = fill(index, entries.stream());
+        for (Long id : chunk) {
+          if (!indexed.contains(id)) {
+            index.remove(id);
+          }
+        }
+      }
+    } catch (Exception e) {
+      logger().error(loggerPrefix + "Search index not updated : " + e.getMessage(), e);
+      return false;
+    }
+    return true;
+  }
+
+  private List<SearchEntry> findSearchEntries(TranslationFamily family, Collection<Long> ids) {
+    switch (family) {
+      case ACTION:
+        return actionRepository.findSearchEntries(ids);
+      case MESSAGE:
+        return messageRepository.findSearchEntries(ids);
+      default:
+        return elementRepository.findSearchEntries(ids);
+    }
+  }
+
+  /**
+   * Index the entries, grouped by parent
+   *
+   * @return the indexed parent ids
+   */
+  private Set<Long> fill(TranslationSearchIndex index, Stream<SearchEntry> entries) {
+    Set<Long> indexed = new HashSet<>();
+    Map<Long, List<SearchEntry>> byParent = new LinkedHashMap<>();
+    entries.forEach(entry -> {
+      // Entries are ordered by parent : a parent is complete once the next one starts
+      if (!byParent.containsKey(entry.getParentId()) && byParent.size() >= CHUNK_SIZE) {
+        byParent.values().forEach(parentEntries -> index(index, parentEntries));
+        byParent.clear();
+      }
+      indexed.add(entry.getParentId());
+      byParent.computeIfAbsent(entry.getParentId(), id -> new ArrayList<>()).add(entry);
+    });
+    byParent.values().forEach(parentEntries -> index(index, parentEntries));
+    return indexed;
+  }
+
+  private void index(TranslationSearchIndex index, List<SearchEntry> parentEntries) {
+    SearchEntry first = parentEntries.get(0);
+    List<String> values = new ArrayList<>(parentEntries.size());
+    for (SearchEntry entry : parentEntries) {
+      values.add(entry.getValue());
+    }
+    index.index(first.getParentId(), first.getName(), first.getCategory(), values);
+  }
+
+  /**
+   * Page of the search results. An unsorted page follows the rank, a sorted page is sorted by the
+   * database.
+   *
+   * @return null when there are too many results to sort them with an IN query
+   */
+  public static <T extends BaseEntity> Page<T> getPage(List<Long> rankedIds, Pageable pageable,
+      Function<List<Long>, List<T>> findAllById,
+      BiFunction<List<Long>, Pageable, Page<T>> findByIdIn) {
+    if (pageable.isPaged() && pageable.getSort().isSorted()) {
+      return rankedIds.size() > CHUNK_SIZE ? null : findByIdIn.apply(rankedIds, pageable);
+    }
+
+    List<Long> pageIds = rankedIds;
+    if (pageable.isPaged()) {
+      int fromIndex = (int) Math.min(pageable.getOffset(), rankedIds.size());
+      pageIds = rankedIds
+          .subList(fromIndex, Math.min(fromIndex + pageable.getPageSize(), rankedIds.size()));
+    }
+    Map<Long, T> entities = new LinkedHashMap<>();
+    pageIds.forEach(id -> entities.put(id, null));
+    for (int fromIndex = 0; fromIndex < pageIds.size(); fromIndex += CHUNK_SIZE) {
+      findAllById.apply(pageIds.subList(fromIndex,
+          Math.min(fromIndex + CHUNK_SIZE, pageIds.size())))
+          .forEach(entity -> entities.put(entity.getId(), entity));
+    }
+    List<T> content = new ArrayList<>(entities.size());
+    entities.values().stream().filter(Objects::nonNull).forEach(content::add);
+    return new PageImpl<>(content, pageable, rankedIds.size());
+  }
+}
@@ -20,9 +20,15 @@ package org.jhapy.i18n.service;
 
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
+import org.jhapy.i18n.cache.SearchCountCache;
+import org.jhapy.i18n.cache.TranslationCache;
 import org.jhapy.i18n.domain.Action;
 import org.jhapy.i18n.domain.ActionTrl;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.dto.KeysetPage;
+import org.jhapy.i18n.event.TranslationChangePublisher;
 import org.jhapy.i18n.repository.ActionRepository;
+import org.jhapy.i18n.search.TranslationSearchIndexer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -40,11 +46,25 @@ public class ActionServiceImpl implements ActionService {
 
   private final ActionRepository actionRepository;
   private final ActionTrlService actionTrlService;
+  private final TranslationCache<ActionTrl> actionTrlCache;
+  private final TranslationChangePublisher translationChangePublisher;
+  private final TranslationTombstones translationTombstones;
+  private final TranslationSearchIndexer translationSearchIndexer;
+  private final SearchCountCache searchCountCache;
 
   public ActionServiceImpl(ActionRepository actionRepository,
-      ActionTrlService actionTrlService) {
+      ActionTrlService actionTrlService,
+      TranslationCache<ActionTrl> actionTrlCache,
+      TranslationChangePublisher translationChangePublisher,
+      TranslationTombstones translationTombstones,
+      TranslationSearchIndexer translationSearchIndexer, SearchCountCache searchCountCache) {
     this.actionRepository = actionRepository;
     this.actionTrlService = actionTrlService;
+    this.actionTrlCache = actionTrlCache;
+    this.translationChangePublisher = translationChangePublisher;
+    this.translationTombstones = translationTombstones;
+    this.translationSearchIndexer = translationSearchIndexer;
+    this.searchCountCache = searchCountCache;
   }
 
   @Override
@@ -62,7 +82,15 @@ public class ActionServiceImpl implements ActionService {
     if (StringUtils.isBlank(filter)) {
       return actionRepository.findAll(pageable);
     } else {
-      return actionRepository.findAnyMatching(filter, pageable);
+      List<Long> actionIds = translationSearchIndexer.search(TranslationFamily.ACTION, filter);
+      Page<Action> page = actionIds == null ? null : TranslationSearchIndexer.getPage(actionIds,
+          pageable, actionRepository::findAllById, actionRepository::findByIdIn);
+      if (page == null) {
+        page = searchCountCache.getPage(TranslationFamily.ACTION, filter,
+            actionRepository.findAnyMatching(filter, pageable), pageable,
+            () -> actionRepository.countAnyMatching(filter));
+      }
+      return page;
     }
   }
 
@@ -71,13 +99,41 @@ public class ActionServiceImpl implements ActionService {
     if (StringUtils.isBlank(filter)) {
       return actionRepository.count();
     } else {
-      return actionRepository.countAnyMatching(filter);
+      List<Long> actionIds = translationSearchIndexer.search(TranslationFamily.ACTION, filter);
+      // Index counts are not cached : the index is updated shortly after the cache is cleared
+      if (actionIds != null) {
+        return actionIds.size();
+      }
+      return searchCountCache.getCount(TranslationFamily.ACTION, filter,
+          () -> actionRepository.countAnyMatching(filter));
     }
   }
 
+  @Override
+  public KeysetPage<Action> findAnyMatchingAfter(String filter, String cursor, Integer size) {
+    String matching = StringUtils.isBlank(filter) ? null : filter;
+    return KeysetCursor.getPage(cursor, size, Action::getCategory, Action::getName,
+        (after, pageable) -> actionRepository
+            .findAnyMatchingUncategorizedAfter(matching, after.getName(), after.getId(), pageable),
+        (after, pageable) -> actionRepository
+            .findAnyMatchingCategorizedAfter(matching, after.getCategory(), after.getName(),
+                after.getId(), pageable));
+  }
+
   @Override
   @Transactional
   public Action save(Action entity) {
+    if (entity.getId() != null) {
+      // The name may have changed, cached translations are keyed by name
+      actionTrlCache.evictAll();
+      translationChangePublisher
+          .parentChanged(TranslationFamily.ACTION, entity.getId(), entity.getName());
+      String previousName = actionRepository.findById(entity.getId()).map(Action::getName)
+          .orElse(null);
+      if (previousName != null && !previousName.equals(entity.getName())) {
+        translationTombstones.parentDeleted(TranslationFamily.ACTION, previousName);
+      }
+    }
     List<ActionTrl> translations = entity.getTranslations();
     entity = actionRepository.save(entity);
     for (ActionTrl actionTrl : translations) {
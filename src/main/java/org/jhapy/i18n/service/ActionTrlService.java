@@ -18,8 +18,13 @@
 
 package org.jhapy.i18n.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
 import org.jhapy.i18n.domain.ActionTrl;
+import org.jhapy.i18n.dto.TranslationEntry;
+import org.jhapy.i18n.importer.TranslationImportRow;
 
 /**
  * @author jHapy Lead Dev.
@@ -34,13 +39,33 @@ public interface ActionTrlService extends CrudService<ActionTrl> {
 
   ActionTrl getByNameAndIso3Language(String name, String iso3Language);
 
+  /**
+   * @return the translation of each name, in the order of the names
+   */
+  Map<String, ActionTrl> getByNamesAndIso3Language(Collection<String> names, String iso3Language);
+
   List<ActionTrl> getByIso3Language(String iso3Language);
 
+  /**
+   * Flat rows of the given language, selected without loading the ActionTrl entities nor their
+   * Action
+   */
+  List<TranslationEntry> findEntriesByIso3Language(String iso3Language);
+
   List<ActionTrl> saveAll(List<ActionTrl> translations);
 
   void deleteAll(List<ActionTrl> actionTrls);
 
   void postUpdate(ActionTrl actionTrl);
 
+  void postRemove(ActionTrl actionTrl);
+
   String importExcelFile(byte[] content);
+
+  String importRows(List<TranslationImportRow> rows);
+
+  /**
+   * @param progressListener Called with the number of rows handled since the previous call
+   */
+  String importRows(List<TranslationImportRow> rows, IntConsumer progressListener);
 }
@@ -22,26 +22,45 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
 import org.jhapy.commons.utils.HasLogger;
+import org.jhapy.i18n.cache.MissingTranslationQueue;
+import org.jhapy.i18n.cache.TranslationCache;
+import org.jhapy.i18n.cache.TranslationKey;
 import org.jhapy.i18n.domain.Action;
 import org.jhapy.i18n.domain.ActionTrl;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.dto.TranslationEntry;
+import org.jhapy.i18n.event.TranslationChangePublisher;
+import org.jhapy.i18n.importer.I18NWorkbookReader;
+import org.jhapy.i18n.importer.TranslationImportRow;
 import org.jhapy.i18n.repository.ActionRepository;
 import org.jhapy.i18n.repository.ActionTrlRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 /**
@@ -55,6 +74,20 @@ public class ActionTrlServiceImpl implements ActionTrlService, HasLogger {
 
   private final ActionRepository actionRepository;
   private final ActionTrlRepository actionTrlRepository;
+  private final TranslationCache<ActionTrl> actionTrlCache;
+  private final TranslationChangePublisher translationChangePublisher;
+  private final TranslationStatusUpdater translationStatusUpdater;
+  private final TranslationTombstones translationTombstones;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate requiresNewTransactionTemplate;
+  private final TranslationKeyLocks translationKeyLocks;
+  private final MissingTranslationQueue missingTranslationQueue;
+  private final EntityManager entityManager;
+
+  /**
+   * Maximum number of names in an IN query
+   */
+  private static final int LOOKUP_CHUNK_SIZE = 500;
 
   private boolean hasBootstrapped = false;
 
@@ -64,10 +97,34 @@ public class ActionTrlServiceImpl implements ActionTrlService, HasLogger {
   @Value("${jhapy.bootstrap.i18n.enabled}")
   private Boolean isBootstrapEnabled;
 
+  @Value("${jhapy.i18n.import.batchSize:500}")
+  private int importBatchSize;
+
+  @Value("${jhapy.i18n.missingTranslations.batchSize:500}")
+  private int missingTranslationsBatchSize;
+
   public ActionTrlServiceImpl(ActionRepository actionRepository,
-      ActionTrlRepository actionTrlRepository) {
+      ActionTrlRepository actionTrlRepository,
+      TranslationCache<ActionTrl> actionTrlCache,
+      TranslationChangePublisher translationChangePublisher,
+      TranslationStatusUpdater translationStatusUpdater,
+      TranslationTombstones translationTombstones,
+      TranslationKeyLocks translationKeyLocks,
+      PlatformTransactionManager transactionManager, EntityManager entityManager,
+      @Value("${jhapy.i18n.missingTranslations.maxPending:100000}") int maxPendingTranslations) {
     this.actionRepository = actionRepository;
     this.actionTrlRepository = actionTrlRepository;
+    this.actionTrlCache = actionTrlCache;
+    this.translationChangePublisher = translationChangePublisher;
+    this.translationStatusUpdater = translationStatusUpdater;
+    this.translationTombstones = translationTombstones;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTransactionTemplate
+        .setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.translationKeyLocks = translationKeyLocks;
+    this.missingTranslationQueue = new MissingTranslationQueue(maxPendingTranslations);
+    this.entityManager = entityManager;
   }
 
   @Transactional
@@ -96,14 +153,172 @@ public class ActionTrlServiceImpl implements ActionTrlService, HasLogger {
     }
   }
 
-  @Transactional
+  /**
+   * Served from the lookup cache when possible, the transaction is only opened on a miss. A missing
+   * translation is returned as a transient fallback and created in background.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
   @Override
   public ActionTrl getByNameAndIso3Language(String name, String iso3Language) {
-    String loggerPrefix = getLoggerPrefix("getByNameAndIso3Language");
-
     Assert.notNull(name, "Name mandatory");
     Assert.notNull(iso3Language, "ISO3 language is mandatory");
 
+    ActionTrl actionTrl = actionTrlCache.get(name, iso3Language);
+    if (actionTrl != null) {
+      return actionTrl;
+    }
+
+    long cacheGeneration = actionTrlCache.getGeneration();
+    actionTrl = transactionTemplate
+        .execute(status -> loadOrRegisterMissing(name, iso3Language));
+    if (actionTrl == null) {
+      actionTrl = createNow(name, iso3Language);
+    }
+    actionTrlCache.put(name, iso3Language, actionTrl, cacheGeneration);
+    return actionTrl;
+  }
+
+  /**
+   * Several names variant of {@link #getByNameAndIso3Language(String, String)} : the cache is
+   * swept first, then the misses are loaded with IN queries.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  @Override
+  public Map<String, ActionTrl> getByNamesAndIso3Language(Collection<String> names,
+      String iso3Language) {
+    Assert.notNull(names, "Names mandatory");
+    Assert.notNull(iso3Language, "ISO3 language is mandatory");
+
+    Map<String, ActionTrl> result = new LinkedHashMap<>();
+    List<String> missingNames = new ArrayList<>();
+    for (String name : new LinkedHashSet<>(names)) {
+      ActionTrl actionTrl = actionTrlCache.get(name, iso3Language);
+      result.put(name, actionTrl);
+      if (actionTrl == null) {
+        missingNames.add(name);
+      }
+    }
+    if (missingNames.isEmpty()) {
+      return result;
+    }
+
+    long cacheGeneration = actionTrlCache.getGeneration();
+    Map<String, ActionTrl> loaded = transactionTemplate
+        .execute(status -> loadOrRegisterMissing(missingNames, iso3Language));
+    for (String name : missingNames) {
+      ActionTrl actionTrl = loaded.get(name);
+      if (actionTrl == null) {
+        actionTrl = createNow(name, iso3Language);
+      }
+      actionTrlCache.put(name, iso3Language, actionTrl, cacheGeneration);
+      result.put(name, actionTrl);
+    }
+    return result;
+  }
+
+  /**
+   * The missing translation is not created here but queued, see {@link
+   * #flushMissingTranslations()}. Until then a transient translation is returned, with the value
+   * of the default translation (or the name).
+   *
+   * @return null when the queue is full, the translation has to be created right away
+   */
+  protected ActionTrl loadOrRegisterMissing(String name, String iso3Language) {
+    Optional<ActionTrl> _actionTrl = actionTrlRepository
+        .getByActionNameAndIso3Language(name, iso3Language);
+    if (_actionTrl.isPresent()) {
+      return _actionTrl.get();
+    }
+
+    if (!missingTranslationQueue.offer(name, iso3Language)) {
+      return null;
+    }
+
+    ActionTrl actionTrl = new ActionTrl();
+    actionTrl.setIso3Language(iso3Language);
+    actionTrl.setValue(name);
+    actionTrl.setIsTranslated(false);
+
+    Optional<Action> _action = actionRepository.getByName(name);
+    if (_action.isPresent()) {
+      actionTrl.setAction(_action.get());
+      actionTrlRepository.getByActionAndIsDefault(_action.get(), true)
+          .ifPresent(defaultActionTrl -> actionTrl.setValue(defaultActionTrl.getValue()));
+    } else {
+      Action action = new Action();
+      action.setName(name);
+      action.setIsTranslated(false);
+      actionTrl.setAction(action);
+    }
+    return actionTrl;
+  }
+
+  /**
+   * Several names variant of {@link #loadOrRegisterMissing(String, String)}. The names whose
+   * translation has to be created right away are left out.
+   */
+  protected Map<String, ActionTrl> loadOrRegisterMissing(List<String> names,
+      String iso3Language) {
+    Map<String, ActionTrl> result = new HashMap<>();
+    Map<String, Action> actions = new HashMap<>();
+    Map<String, String> defaultValues = new HashMap<>();
+    for (int fromIndex = 0; fromIndex < names.size(); fromIndex += LOOKUP_CHUNK_SIZE) {
+      List<String> chunk = names
+          .subList(fromIndex, Math.min(fromIndex + LOOKUP_CHUNK_SIZE, names.size()));
+      actionTrlRepository.findByActionNameInAndIso3Language(chunk, iso3Language)
+          .forEach(actionTrl -> result.put(actionTrl.getAction().getName(), actionTrl));
+
+      List<String> missingNames = chunk.stream().filter(name -> !result.containsKey(name))
+          .collect(Collectors.toList());
+      if (missingNames.isEmpty()) {
+        continue;
+      }
+      actionRepository.findByNameIn(missingNames)
+          .forEach(action -> actions.put(action.getName(), action));
+      actionTrlRepository.findDefaultsByActionNameIn(missingNames).forEach(
+          defaultActionTrl -> defaultValues
+              .put(defaultActionTrl.getAction().getName(), defaultActionTrl.getValue()));
+    }
+
+    for (String name : names) {
+      if (result.containsKey(name) || !missingTranslationQueue.offer(name, iso3Language)) {
+        continue;
+      }
+      ActionTrl actionTrl = new ActionTrl();
+      actionTrl.setIso3Language(iso3Language);
+      actionTrl.setValue(defaultValues.getOrDefault(name, name));
+      actionTrl.setIsTranslated(false);
+      Action action = actions.get(name);
+      if (action == null) {
+        action = new Action();
+        action.setName(name);
+        action.setIsTranslated(false);
+      }
+      actionTrl.setAction(action);
+      result.put(name, actionTrl);
+    }
+    return result;
+  }
+
+  /**
+   * Create a missing translation under the name lock, in its own transaction. A concurrent writer
+   * not taking the lock (import) may still win the race : its row is returned.
+   */
+  protected ActionTrl createNow(String name, String iso3Language) {
+    try {
+      return translationKeyLocks
+          .callWithLocks(TranslationFamily.ACTION, Collections.singleton(name),
+              () -> requiresNewTransactionTemplate
+                  .execute(status -> loadOrCreate(name, iso3Language)));
+    } catch (DataIntegrityViolationException e) {
+      return transactionTemplate.execute(status -> actionTrlRepository
+          .getByActionNameAndIso3Language(name, iso3Language)).orElseThrow(() -> e);
+    }
+  }
+
+  protected ActionTrl loadOrCreate(String name, String iso3Language) {
+    String loggerPrefix = getLoggerPrefix("getByNameAndIso3Language");
+
     Optional<Action> _action = actionRepository.getByName(name);
     Action action;
     if (!_action.isPresent()) {
@@ -140,6 +355,100 @@ public class ActionTrlServiceImpl implements ActionTrlService, HasLogger {
     }
   }
 
+  /**
+   * Create the queued missing translations (and their actions), by batches, each batch in its own
+   * transaction
+   */
+  @Scheduled(fixedDelayString = "${jhapy.i18n.missingTranslations.flushDelayMillis:1000}")
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void flushMissingTranslations() {
+    String loggerPrefix = getLoggerPrefix("flushMissingTranslations");
+
+    List<TranslationKey> keys;
+    while (!(keys = missingTranslationQueue.poll(missingTranslationsBatchSize)).isEmpty()) {
+      List<TranslationKey> batch = keys;
+      try {
+        createMissingWithLocks(batch);
+        logger().info(loggerPrefix + batch.size() + " missing translations handled");
+      } catch (Throwable t) {
+        logger().error(loggerPrefix + "Something wrong happen : " + t.getMessage(), t);
+      } finally {
+        // Drop the cached fallbacks : the rows now exist, or the keys have to be queued again
+        missingTranslationQueue.done(batch);
+        batch.forEach(key -> actionTrlCache.evict(key.getName(), key.getIso3Language()));
+      }
+    }
+  }
+
+  /**
+   * The names are locked while the batch is created and committed. A writer not taking the locks
+   * (import), or another node when a cluster lock timed out, may still create some of them
+   * meanwhile : the unique constraints reject the batch, which is then retried once and the
+   * re-check skips what already exists.
+   */
+  private void createMissingWithLocks(List<TranslationKey> keys) {
+    String loggerPrefix = getLoggerPrefix("createMissingWithLocks");
+
+    Set<String> names = keys.stream().map(TranslationKey::getName).collect(Collectors.toSet());
+    Runnable createMissing = () -> translationKeyLocks
+        .runWithLocks(TranslationFamily.ACTION, names, () -> requiresNewTransactionTemplate
+            .executeWithoutResult(status -> createMissing(keys)));
+    try {
+      createMissing.run();
+    } catch (DataIntegrityViolationException e) {
+      logger().warn(loggerPrefix + "Concurrent creation, retry : " + e.getMessage());
+      createMissing.run();
+    }
+  }
+
+  protected void createMissing(List<TranslationKey> keys) {
+    Set<String> names = keys.stream().map(TranslationKey::getName).collect(Collectors.toSet());
+
+    Map<String, Action> actions = new HashMap<>();
+    actionRepository.findByNameIn(names)
+        .forEach(action -> actions.put(action.getName(), action));
+
+    Map<Long, List<ActionTrl>> actionTrls = new HashMap<>();
+    if (!actions.isEmpty()) {
+      actionTrlRepository.findByActionIn(actions.values()).forEach(actionTrl -> actionTrls
+          .computeIfAbsent(actionTrl.getAction().getId(), id -> new ArrayList<>())
+          .add(actionTrl));
+    }
+
+    List<Action> newActions = new ArrayList<>();
+    for (String name : names) {
+      if (!actions.containsKey(name)) {
+        Action action = new Action();
+        action.setName(name);
+        action.setIsTranslated(false);
+        actions.put(name, action);
+        newActions.add(action);
+      }
+    }
+    actionRepository.saveAll(newActions);
+
+    List<ActionTrl> newActionTrls = new ArrayList<>();
+    for (TranslationKey key : keys) {
+      Action action = actions.get(key.getName());
+      List<ActionTrl> translations = actionTrls
+          .computeIfAbsent(action.getId(), id -> new ArrayList<>());
+      if (translations.stream()
+          .anyMatch(trl -> key.getIso3Language().equals(trl.getIso3Language()))) {
+        continue;
+      }
+      ActionTrl actionTrl = new ActionTrl();
+      actionTrl.setIso3Language(key.getIso3Language());
+      actionTrl.setAction(action);
+      actionTrl.setValue(translations.stream()
+          .filter(trl -> Boolean.TRUE.equals(trl.getIsDefault())).findFirst()
+          .map(ActionTrl::getValue).orElse(key.getName()));
+      actionTrl.setIsTranslated(false);
+      translations.add(actionTrl);
+      newActionTrls.add(actionTrl);
+    }
+    actionTrlRepository.saveAll(newActionTrls);
+  }
+
   @Override
   public List<ActionTrl> getByIso3Language(String iso3Language) {
     Assert.notNull(iso3Language, "ISO3 language is mandatory");
@@ -147,6 +456,13 @@ public class ActionTrlServiceImpl implements ActionTrlService, HasLogger {
     return actionTrlRepository.findByIso3Language(iso3Language);
   }
 
+  @Override
+  public List<TranslationEntry> findEntriesByIso3Language(String iso3Language) {
+    Assert.notNull(iso3Language, "ISO3 language is mandatory");
+
+    return actionTrlRepository.findEntriesByIso3Language(iso3Language);
+  }
+
   @Override
   public List<ActionTrl> saveAll(List<ActionTrl> translations) {
     return actionTrlRepository.saveAll(translations);
@@ -159,31 +475,38 @@ public class ActionTrlServiceImpl implements ActionTrlService, HasLogger {
   }
 
   @Override
-  public JpaRepository<ActionTrl, Long> getRepository() {
-    return actionTrlRepository;
+  public void postUpdate(ActionTrl actionTrl) {
+    onChange(actionTrl, false);
   }
 
-  @Transactional
   @Override
-  public void postUpdate(ActionTrl actionTrl) {
-    boolean isAllTranslated = true;
+  public void postRemove(ActionTrl actionTrl) {
+    onChange(actionTrl, true);
+  }
+
+  private void onChange(ActionTrl actionTrl, boolean isDeleted) {
     Action action = actionTrl.getAction();
-    List<ActionTrl> trls = actionTrl.getAction().getTranslations();
-    for (ActionTrl trl : trls) {
-      if (!trl.getIsTranslated()) {
-        isAllTranslated = false;
-        break;
-      }
+    if (action == null || actionTrl.getIso3Language() == null) {
+      return;
     }
-    if (isAllTranslated && !action.getIsTranslated()) {
-      action.setIsTranslated(true);
-      actionRepository.save(action);
-    } else if (!isAllTranslated && action.getIsTranslated()) {
-      action.setIsTranslated(false);
-      actionRepository.save(action);
+    actionTrlCache.evict(action.getName(), actionTrl.getIso3Language());
+    translationStatusUpdater.translationChanged(TranslationFamily.ACTION, action.getId());
+    if (isDeleted) {
+      translationChangePublisher.translationDeleted(TranslationFamily.ACTION, action.getId(),
+          action.getName(), actionTrl.getIso3Language());
+      translationTombstones.translationDeleted(TranslationFamily.ACTION, action.getName(),
+          actionTrl.getIso3Language());
+    } else {
+      translationChangePublisher.translationChanged(TranslationFamily.ACTION, action.getId(),
+          action.getName(), actionTrl.getIso3Language());
     }
   }
 
+  @Override
+  public JpaRepository<ActionTrl, Long> getRepository() {
+    return actionTrlRepository;
+  }
+
   @Transactional
   public synchronized void bootstrapActions() {
     if (hasBootstrapped || !isBootstrapEnabled) {
@@ -202,115 +525,133 @@ public class ActionTrlServiceImpl implements ActionTrlService, HasLogger {
   @Transactional
   public String importExcelFile(byte[] content) {
     String loggerPrefix = getLoggerPrefix("importExcelFile");
-    try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(content))) {
-
-      Sheet sheet = workbook.getSheet("Actions");
-      if (sheet == null) {
-        sheet = workbook.getSheet("actions");
-      }
-
-      logger().info(loggerPrefix + sheet.getPhysicalNumberOfRows() + " rows");
+    try {
+      return importRows(I18NWorkbookReader
+          .read(new ByteArrayInputStream(content), I18NWorkbookReader.ACTIONS_SHEET)
+          .getOrDefault(I18NWorkbookReader.ACTIONS_SHEET, Collections.emptyList()));
+    } catch (IOException e) {
+      logger().error(loggerPrefix + "Something wrong happen : " + e.getMessage(), e);
+      return e.getMessage();
+    }
+  }
 
-      Iterator<Row> rowIterator = sheet.rowIterator();
-      int rowIndex = 0;
+  /**
+   * Rows are grouped by action and handled by chunks of {@code importBatchSize} actions : the
+   * existing actions and translations of a chunk are loaded with two IN queries, only the new or
+   * changed entities are saved (JDBC batching), then the persistence context is cleared.
+   */
+  @Transactional
+  @Override
+  public String importRows(List<TranslationImportRow> rows) {
+    return importRows(rows, processedRows -> {
+    });
+  }
 
-      while (rowIterator.hasNext()) {
-        Row row = rowIterator.next();
+  @Transactional
+  @Override
+  public String importRows(List<TranslationImportRow> rows, IntConsumer progressListener) {
+    String loggerPrefix = getLoggerPrefix("importRows");
 
-        rowIndex++;
+    logger().info(loggerPrefix + rows.size() + " rows");
 
-        if (rowIndex == 1) {
+    try {
+      Map<String, List<TranslationImportRow>> rowsByName = new LinkedHashMap<>();
+      for (TranslationImportRow row : rows) {
+        if (row.getIso3Language() == null) {
+          logger().error(loggerPrefix + "Row " + row.getRowNum()
+              + " : Empty value for language, skip");
           continue;
         }
 
-        if (rowIndex % 10 == 0) {
-          logger().info(loggerPrefix + "Handle row " + rowIndex);
+        if (row.getName() == null) {
+          logger().error(loggerPrefix + "Row " + row.getRowNum() + " : Empty value for name, skip");
+          continue;
         }
+        rowsByName.computeIfAbsent(row.getName(), name -> new ArrayList<>()).add(row);
+      }
 
-        int colIdx = 0;
-
-        Cell categoryCell = row.getCell(colIdx++);
-        Cell name0Cell = row.getCell(colIdx++);
-        Cell name1Cell = row.getCell(colIdx++);
-        Cell name2Cell = row.getCell(colIdx++);
-        Cell name3Cell = row.getCell(colIdx++);
-        Cell langCell = row.getCell(colIdx++);
-        Cell valueCell = row.getCell(colIdx++);
-        Cell tooltipCell = row.getCell(colIdx);
+      int skippedRows = rows.size() - rowsByName.values().stream().mapToInt(List::size).sum();
+      if (skippedRows > 0) {
+        progressListener.accept(skippedRows);
+      }
 
-        if (langCell == null) {
-          logger().error(loggerPrefix + "Empty value for language, skip");
-          continue;
-        }
+      List<String> names = new ArrayList<>(rowsByName.keySet());
+      for (int fromIndex = 0; fromIndex < names.size(); fromIndex += importBatchSize) {
+        List<String> chunk = names
+            .subList(fromIndex, Math.min(fromIndex + importBatchSize, names.size()));
+        importChunk(chunk, rowsByName);
+        entityManager.flush();
+        entityManager.clear();
+        progressListener.accept(chunk.stream().mapToInt(name -> rowsByName.get(name).size()).sum());
+
+        logger().info(loggerPrefix + "Handle " + (fromIndex + chunk.size()) + "/" + names.size()
+            + " actions");
+      }
+    } catch (Throwable e) {
+      logger().error(loggerPrefix + "Something wrong happen : " + e.getMessage(), e);
+      return e.getMessage();
+    }
 
-        if (name0Cell == null) {
-          logger().error(loggerPrefix + "Empty value for name, skip");
-          continue;
-        }
+    logger().info(loggerPrefix + "Done");
 
-        String category = categoryCell == null ? null : categoryCell.getStringCellValue();
+    hasBootstrapped = true;
+    return null;
+  }
 
-        String name = name0Cell.getStringCellValue();
-        if (name1Cell != null) {
-          name += "." + name1Cell.getStringCellValue();
-        }
-        if (name2Cell != null) {
-          name += "." + name2Cell.getStringCellValue();
-        }
-        if (name3Cell != null) {
-          name += "." + name3Cell.getStringCellValue();
-        }
+  private void importChunk(List<String> names,
+      Map<String, List<TranslationImportRow>> rowsByName) {
+    Map<String, Action> actions = new HashMap<>();
+    actionRepository.findByNameIn(names).forEach(action -> actions.put(action.getName(), action));
 
-        String language = langCell.getStringCellValue();
+    Map<Long, Map<String, ActionTrl>> actionTrls = new HashMap<>();
+    if (!actions.isEmpty()) {
+      actionTrlRepository.findByActionIn(actions.values()).forEach(actionTrl -> actionTrls
+          .computeIfAbsent(actionTrl.getAction().getId(), id -> new HashMap<>())
+          .put(actionTrl.getIso3Language(), actionTrl));
+    }
 
-        Optional<Action> _action = actionRepository.getByName(name);
-        Action action;
-        if (!_action.isPresent()) {
-          action = new Action();
-          action.setName(name);
-          action.setCategory(category);
-          action.setIsTranslated(true);
-          action = actionRepository.save(action);
-        } else {
-          action = _action.get();
+    List<Action> actionsToSave = new ArrayList<>();
+    List<ActionTrl> actionTrlsToSave = new ArrayList<>();
+    for (String name : names) {
+      List<TranslationImportRow> actionRows = rowsByName.get(name);
+      String category = actionRows.get(actionRows.size() - 1).getCategory();
+
+      Action action = actions.get(name);
+      Map<String, ActionTrl> translations;
+      if (action == null) {
+        action = new Action();
+        action.setName(name);
+        action.setCategory(category);
+        action.setIsTranslated(true);
+        actionsToSave.add(action);
+        translations = new HashMap<>();
+      } else {
+        // isTranslated is recomputed at commit by the TranslationStatusUpdater
+        if (!Objects.equals(category, action.getCategory())) {
           action.setCategory(category);
-          action.setIsTranslated(true);
-          action = actionRepository.save(action);
+          actionsToSave.add(action);
         }
+        translations = actionTrls.getOrDefault(action.getId(), new HashMap<>());
+      }
 
-        Optional<ActionTrl> _actionTrl = actionTrlRepository
-            .getByActionAndIso3Language(action, language);
-        ActionTrl actionTrl;
-        if (!_actionTrl.isPresent()) {
+      for (TranslationImportRow row : actionRows) {
+        ActionTrl actionTrl = translations.get(row.getIso3Language());
+        if (actionTrl == null) {
           actionTrl = new ActionTrl();
-          actionTrl.setValue(valueCell == null ? "" : valueCell.getStringCellValue());
-          actionTrl.setTooltip(tooltipCell == null ? null : tooltipCell.getStringCellValue());
-          actionTrl.setIso3Language(language);
+          actionTrl.setIso3Language(row.getIso3Language());
           actionTrl.setAction(action);
-          actionTrl.setIsTranslated(true);
-
-          actionTrlRepository.save(actionTrl);
-        } else {
-          actionTrl = _actionTrl.get();
-          if (!actionTrl.getIsTranslated()) {
-            actionTrl.setValue(valueCell == null ? "" : valueCell.getStringCellValue());
-            actionTrl.setTooltip(tooltipCell == null ? null : tooltipCell.getStringCellValue());
-            actionTrl.setIso3Language(language);
-            actionTrl.setAction(action);
-            actionTrl.setIsTranslated(true);
-
-            actionTrlRepository.save(actionTrl);
-          }
+          translations.put(row.getIso3Language(), actionTrl);
+        } else if (Boolean.TRUE.equals(actionTrl.getIsTranslated())) {
+          continue;
         }
+        actionTrl.setValue(row.getValue() == null ? "" : row.getValue());
+        actionTrl.setTooltip(row.getTooltip());
+        actionTrl.setIsTranslated(true);
+        actionTrlsToSave.add(actionTrl);
       }
-    } catch (Throwable e) {
-      logger().error(loggerPrefix + "Something wrong happen : " + e.getMessage(), e);
-      return e.getMessage();
     }
 
-    logger().info(loggerPrefix + "Done");
-
-    hasBootstrapped = true;
-    return null;
+    actionRepository.saveAll(actionsToSave);
+    actionTrlRepository.saveAll(actionTrlsToSave);
   }
 }
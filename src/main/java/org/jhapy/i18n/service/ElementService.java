@@ -19,6 +19,7 @@
 package org.jhapy.i18n.service;
 
 import org.jhapy.i18n.domain.Element;
+import org.jhapy.i18n.dto.KeysetPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -36,5 +37,13 @@ public interface ElementService extends CrudService<Element> {
 
   long countAnyMatching(String filter);
 
+  /**
+   * Keyset paginated variant of {@link #findAnyMatching(String, Pageable)}, ordered by (category,
+   * name, id) : the cost of a page doesn't depend on its position
+   *
+   * @param cursor next cursor of the previous page, null for the first page
+   */
+  KeysetPage<Element> findAnyMatchingAfter(String filter, String cursor, Integer size);
+
   long countByNameLike(String name);
 }
@@ -20,9 +20,15 @@ package org.jhapy.i18n.service;
 
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
+import org.jhapy.i18n.cache.SearchCountCache;
+import org.jhapy.i18n.cache.TranslationCache;
 import org.jhapy.i18n.domain.Element;
 import org.jhapy.i18n.domain.ElementTrl;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.dto.KeysetPage;
+import org.jhapy.i18n.event.TranslationChangePublisher;
 import org.jhapy.i18n.repository.ElementRepository;
+import org.jhapy.i18n.search.TranslationSearchIndexer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -40,11 +46,25 @@ public class ElementServiceImpl implements ElementService {
 
   private final ElementRepository elementRepository;
   private final ElementTrlService elementTrlService;
+  private final TranslationCache<ElementTrl> elementTrlCache;
+  private final TranslationChangePublisher translationChangePublisher;
+  private final TranslationTombstones translationTombstones;
+  private final TranslationSearchIndexer translationSearchIndexer;
+  private final SearchCountCache searchCountCache;
 
   public ElementServiceImpl(ElementRepository elementRepository,
-      ElementTrlService elementTrlService) {
+      ElementTrlService elementTrlService,
+      TranslationCache<ElementTrl> elementTrlCache,
+      TranslationChangePublisher translationChangePublisher,
+      TranslationTombstones translationTombstones,
+      TranslationSearchIndexer translationSearchIndexer, SearchCountCache searchCountCache) {
     this.elementRepository = elementRepository;
     this.elementTrlService = elementTrlService;
+    this.elementTrlCache = elementTrlCache;
+    this.translationChangePublisher = translationChangePublisher;
+    this.translationTombstones = translationTombstones;
+    this.translationSearchIndexer = translationSearchIndexer;
+    this.searchCountCache = searchCountCache;
   }
 
   @Override
@@ -62,7 +82,15 @@ public class ElementServiceImpl implements ElementService {
     if (StringUtils.isBlank(filter)) {
       return elementRepository.findAll(pageable);
     } else {
-      return elementRepository.findAnyMatching(filter, pageable);
+      List<Long> elementIds = translationSearchIndexer.search(TranslationFamily.ELEMENT, filter);
+      Page<Element> page = elementIds == null ? null : TranslationSearchIndexer.getPage(elementIds,
+          pageable, elementRepository::findAllById, elementRepository::findByIdIn);
+      if (page == null) {
+        page = searchCountCache.getPage(TranslationFamily.ELEMENT, filter,
+            elementRepository.findAnyMatching(filter, pageable), pageable,
+            () -> elementRepository.countAnyMatching(filter));
+      }
+      return page;
     }
   }
 
@@ -71,13 +99,41 @@ public class ElementServiceImpl implements ElementService {
     if (StringUtils.isBlank(filter)) {
       return elementRepository.count();
     } else {
-      return elementRepository.countAnyMatching(filter);
+      List<Long> elementIds = translationSearchIndexer.search(TranslationFamily.ELEMENT, filter);
+      // Index counts are not cached : the index is updated shortly after the cache is cleared
+      if (elementIds != null) {
+        return elementIds.size();
+      }
+      return searchCountCache.getCount(TranslationFamily.ELEMENT, filter,
+          () -> elementRepository.countAnyMatching(filter));
     }
   }
 
+  @Override
+  public KeysetPage<Element> findAnyMatchingAfter(String filter, String cursor, Integer size) {
+    String matching = StringUtils.isBlank(filter) ? null : filter;
+    return KeysetCursor.getPage(cursor, size, Element::getCategory, Element::getName,
+        (after, pageable) -> elementRepository
+            .findAnyMatchingUncategorizedAfter(matching, after.getName(), after.getId(), pageable),
+        (after, pageable) -> elementRepository
+            .findAnyMatchingCategorizedAfter(matching, after.getCategory(), after.getName(),
+                after.getId(), pageable));
+  }
+
   @Override
   @Transactional
   public Element save(Element entity) {
+    if (entity.getId() != null) {
+      // The name may have changed, cached translations are keyed by name
+      elementTrlCache.evictAll();
+      translationChangePublisher
+          .parentChanged(TranslationFamily.ELEMENT, entity.getId(), entity.getName());
+      String previousName = elementRepository.findById(entity.getId()).map(Element::getName)
+          .orElse(null);
+      if (previousName != null && !previousName.equals(entity.getName())) {
+        translationTombstones.parentDeleted(TranslationFamily.ELEMENT, previousName);
+      }
+    }
     List<ElementTrl> translations = entity.getTranslations();
     entity = elementRepository.save(entity);
     for (ElementTrl elementTrl : translations) {
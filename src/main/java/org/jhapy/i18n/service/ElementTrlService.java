@@ -18,8 +18,13 @@
 
 package org.jhapy.i18n.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
 import org.jhapy.i18n.domain.ElementTrl;
+import org.jhapy.i18n.dto.TranslationEntry;
+import org.jhapy.i18n.importer.TranslationImportRow;
 
 /**
  * @author jHapy Lead Dev.
@@ -34,13 +39,33 @@ public interface ElementTrlService extends CrudService<ElementTrl> {
 
   ElementTrl getByNameAndIso3Language(String name, String iso3Language);
 
+  /**
+   * @return the translation of each name, in the order of the names
+   */
+  Map<String, ElementTrl> getByNamesAndIso3Language(Collection<String> names, String iso3Language);
+
   List<ElementTrl> getByIso3Language(String iso3Language);
 
+  /**
+   * Flat rows of the given language, selected without loading the ElementTrl entities nor their
+   * Element
+   */
+  List<TranslationEntry> findEntriesByIso3Language(String iso3Language);
+
   List<ElementTrl> saveAll(List<ElementTrl> translations);
 
   void deleteAll(List<ElementTrl> elementTrls);
 
   void postUpdate(ElementTrl elementTrl);
 
+  void postRemove(ElementTrl elementTrl);
+
   String importExcelFile(byte[] content);
+
+  String importRows(List<TranslationImportRow> rows);
+
+  /**
+   * @param progressListener Called with the number of rows handled since the previous call
+   */
+  String importRows(List<TranslationImportRow> rows, IntConsumer progressListener);
 }
@@ -22,26 +22,45 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
 import org.jhapy.commons.utils.HasLogger;
+import org.jhapy.i18n.cache.MissingTranslationQueue;
+import org.jhapy.i18n.cache.TranslationCache;
+import org.jhapy.i18n.cache.TranslationKey;
 import org.jhapy.i18n.domain.Element;
 import org.jhapy.i18n.domain.ElementTrl;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.dto.TranslationEntry;
+import org.jhapy.i18n.event.TranslationChangePublisher;
+import org.jhapy.i18n.importer.I18NWorkbookReader;
+import org.jhapy.i18n.importer.TranslationImportRow;
 import org.jhapy.i18n.repository.ElementRepository;
 import org.jhapy.i18n.repository.ElementTrlRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 /**
@@ -55,6 +74,20 @@ public class ElementTrlServiceImpl implements ElementTrlService, HasLogger {
 
   private final ElementRepository elementRepository;
   private final ElementTrlRepository elementTrlRepository;
+  private final TranslationCache<ElementTrl> elementTrlCache;
+  private final TranslationChangePublisher translationChangePublisher;
+  private final TranslationStatusUpdater translationStatusUpdater;
+  private final TranslationTombstones translationTombstones;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate requiresNewTransactionTemplate;
+  private final TranslationKeyLocks translationKeyLocks;
+  private final MissingTranslationQueue missingTranslationQueue;
+  private final EntityManager entityManager;
+
+  /**
+   * Maximum number of names in an IN query
+   */
+  private static final int LOOKUP_CHUNK_SIZE = 500;
 
   private boolean hasBootstrapped = false;
 
@@ -64,10 +97,34 @@ public class ElementTrlServiceImpl implements ElementTrlService, HasLogger {
   @Value("${jhapy.bootstrap.i18n.enabled}")
   private Boolean isBootstrapEnabled;
 
+  @Value("${jhapy.i18n.import.batchSize:500}")
+  private int importBatchSize;
+
+  @Value("${jhapy.i18n.missingTranslations.batchSize:500}")
+  private int missingTranslationsBatchSize;
+
   public ElementTrlServiceImpl(ElementRepository elementRepository,
-      ElementTrlRepository elementTrlRepository) {
+      ElementTrlRepository elementTrlRepository,
+      TranslationCache<ElementTrl> elementTrlCache,
+      TranslationChangePublisher translationChangePublisher,
+      TranslationStatusUpdater translationStatusUpdater,
+      TranslationTombstones translationTombstones,
+      TranslationKeyLocks translationKeyLocks,
+      PlatformTransactionManager transactionManager, EntityManager entityManager,
+      @Value("${jhapy.i18n.missingTranslations.maxPending:100000}") int maxPendingTranslations) {
     this.elementRepository = elementRepository;
     this.elementTrlRepository = elementTrlRepository;
+    this.elementTrlCache = elementTrlCache;
+    this.translationChangePublisher = translationChangePublisher;
+    this.translationStatusUpdater = translationStatusUpdater;
+    this.translationTombstones = translationTombstones;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTransactionTemplate
+        .setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.translationKeyLocks = translationKeyLocks;
+    this.missingTranslationQueue = new MissingTranslationQueue(maxPendingTranslations);
+    this.entityManager = entityManager;
   }
 
   @Transactional
@@ -96,14 +153,172 @@ public class ElementTrlServiceImpl implements ElementTrlService, HasLogger {
     }
   }
 
-  @Transactional
+  /**
+   * Served from the lookup cache when possible, the transaction is only opened on a miss. A missing
+   * translation is returned as a transient fallback and created in background.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
   @Override
   public ElementTrl getByNameAndIso3Language(String name, String iso3Language) {
-    String loggerPrefix = getLoggerPrefix("getByNameAndIso3Language", name, iso3Language);
-
     Assert.notNull(name, "Name mandatory");
     Assert.notNull(iso3Language, "ISO3 language is mandatory");
 
+    ElementTrl elementTrl = elementTrlCache.get(name, iso3Language);
+    if (elementTrl != null) {
+      return elementTrl;
+    }
+
+    long cacheGeneration = elementTrlCache.getGeneration();
+    elementTrl = transactionTemplate
+        .execute(status -> loadOrRegisterMissing(name, iso3Language));
+    if (elementTrl == null) {
+      elementTrl = createNow(name, iso3Language);
+    }
+    elementTrlCache.put(name, iso3Language, elementTrl, cacheGeneration);
+    return elementTrl;
+  }
+
+  /**
+   * Several names variant of {@link #getByNameAndIso3Language(String, String)} : the cache is
+   * swept first, then the misses are loaded with IN queries.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  @Override
+  public Map<String, ElementTrl> getByNamesAndIso3Language(Collection<String> names,
+      String iso3Language) {
+    Assert.notNull(names, "Names mandatory");
+    Assert.notNull(iso3Language, "ISO3 language is mandatory");
+
+    Map<String, ElementTrl> result = new LinkedHashMap<>();
+    List<String> missingNames = new ArrayList<>();
+    for (String name : new LinkedHashSet<>(names)) {
+      ElementTrl elementTrl = elementTrlCache.get(name, iso3Language);
+      result.put(name, elementTrl);
+      if (elementTrl == null) {
+        missingNames.add(name);
+      }
+    }
+    if (missingNames.isEmpty()) {
+      return result;
+    }
+
+    long cacheGeneration = elementTrlCache.getGeneration();
+    Map<String, ElementTrl> loaded = transactionTemplate
+        .execute(status -> loadOrRegisterMissing(missingNames, iso3Language));
+    for (String name : missingNames) {
+      ElementTrl elementTrl = loaded.get(name);
+      if (elementTrl == null) {
+        elementTrl = createNow(name, iso3Language);
+      }
+      elementTrlCache.put(name, iso3Language, elementTrl, cacheGeneration);
+      result.put(name, elementTrl);
+    }
+    return result;
+  }
+
+  /**
+   * The missing translation is not created here but queued, see {@link
+   * #flushMissingTranslations()}. Until then a transient translation is returned, with the value
+   * of the default translation (or the name).
+   *
+   * @return null when the queue is full, the translation has to be created right away
+   */
+  protected ElementTrl loadOrRegisterMissing(String name, String iso3Language) {
+    Optional<ElementTrl> _elementTrl = elementTrlRepository
+        .getByElementNameAndIso3Language(name, iso3Language);
+    if (_elementTrl.isPresent()) {
+      return _elementTrl.get();
+    }
+
+    if (!missingTranslationQueue.offer(name, iso3Language)) {
+      return null;
+    }
+
+    ElementTrl elementTrl = new ElementTrl();
+    elementTrl.setIso3Language(iso3Language);
+    elementTrl.setValue(name);
+    elementTrl.setIsTranslated(false);
+
+    Optional<Element> _element = elementRepository.getByName(name);
+    if (_element.isPresent()) {
+      elementTrl.setElement(_element.get());
+      elementTrlRepository.getByElementAndIsDefault(_element.get(), true)
+          .ifPresent(defaultElementTrl -> elementTrl.setValue(defaultElementTrl.getValue()));
+    } else {
+      Element element = new Element();
+      element.setName(name);
+      element.setIsTranslated(false);
+      elementTrl.setElement(element);
+    }
+    return elementTrl;
+  }
+
+  /**
+   * Several names variant of {@link #loadOrRegisterMissing(String, String)}. The names whose
+   * translation has to be created right away are left out.
+   */
+  protected Map<String, ElementTrl> loadOrRegisterMissing(List<String> names,
+      String iso3Language) {
+    Map<String, ElementTrl> result = new HashMap<>();
+    Map<String, Element> elements = new HashMap<>();
+    Map<String, String> defaultValues = new HashMap<>();
+    for (int fromIndex = 0; fromIndex < names.size(); fromIndex += LOOKUP_CHUNK_SIZE) {
+      List<String> chunk = names
+          .subList(fromIndex, Math.min(fromIndex + LOOKUP_CHUNK_SIZE, names.size()));
+      elementTrlRepository.findByElementNameInAndIso3Language(chunk, iso3Language)
+          .forEach(elementTrl -> result.put(elementTrl.getElement().getName(), elementTrl));
+
+      List<String> missingNames = chunk.stream().filter(name -> !result.containsKey(name))
+          .collect(Collectors.toList());
+      if (missingNames.isEmpty()) {
+        continue;
+      }
+      elementRepository.findByNameIn(missingNames)
+          .forEach(element -> elements.put(element.getName(), element));
+      elementTrlRepository.findDefaultsByElementNameIn(missingNames).forEach(
+          defaultElementTrl -> defaultValues
+              .put(defaultElementTrl.getElement().getName(), defaultElementTrl.getValue()));
+    }
+
+    for (String name : names) {
+      if (result.containsKey(name) || !missingTranslationQueue.offer(name, iso3Language)) {
+        continue;
+      }
+      ElementTrl elementTrl = new ElementTrl();
+      elementTrl.setIso3Language(iso3Language);
+      elementTrl.setValue(defaultValues.getOrDefault(name, name));
+      elementTrl.setIsTranslated(false);
+      Element element = elements.get(name);
+      if (element == null) {
+        element = new Element();
+        element.setName(name);
+        element.setIsTranslated(false);
+      }
+      elementTrl.setElement(element);
+      result.put(name, elementTrl);
+    }
+    return result;
+  }
+
+  /**
+   * Create a missing translation under the name lock, in its own transaction. A concurrent writer
+   * not taking the lock (import) may still win the race : its row is returned.
+   */
+  protected ElementTrl createNow(String name, String iso3Language) {
+    try {
+      return translationKeyLocks
+          .callWithLocks(TranslationFamily.ELEMENT, Collections.singleton(name),
+              () -> requiresNewTransactionTemplate
+                  .execute(status -> loadOrCreate(name, iso3Language)));
+    } catch (DataIntegrityViolationException e) {
+      return transactionTemplate.execute(status -> elementTrlRepository
+          .getByElementNameAndIso3Language(name, iso3Language)).orElseThrow(() -> e);
+    }
+  }
+
+  protected ElementTrl loadOrCreate(String name, String iso3Language) {
+    String loggerPrefix = getLoggerPrefix("getByNameAndIso3Language", name, iso3Language);
+
     Optional<Element> _element = elementRepository.getByName(name);
     Element element;
     if (!_element.isPresent()) {
@@ -140,6 +355,100 @@ public class ElementTrlServiceImpl implements ElementTrlService, HasLogger {
     }
   }
 
+  /**
+   * Create the queued missing translations (and their elements), by batches, each batch in its own
+   * transaction
+   */
+  @Scheduled(fixedDelayString = "${jhapy.i18n.missingTranslations.flushDelayMillis:1000}")
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void flushMissingTranslations() {
+    String loggerPrefix = getLoggerPrefix("flushMissingTranslations");
+
+    List<TranslationKey> keys;
+    while (!(keys = missingTranslationQueue.poll(missingTranslationsBatchSize)).isEmpty()) {
+      List<TranslationKey> batch = keys;
+      try {
+        createMissingWithLocks(batch);
+        logger().info(loggerPrefix + batch.size() + " missing translations handled");
+      } catch (Throwable t) {
+        logger().error(loggerPrefix + "Something wrong happen : " + t.getMessage(), t);
+      } finally {
+        // Drop the cached fallbacks : the rows now exist, or the keys have to be queued again
+        missingTranslationQueue.done(batch);
+        batch.forEach(key -> elementTrlCache.evict(key.getName(), key.getIso3Language()));
+      }
+    }
+  }
+
+  /**
+   * The names are locked while the batch is created and committed. A writer not taking the locks
+   * (import), or another node when a cluster lock timed out, may still create some of them
+   * meanwhile : the unique constraints reject the batch, which is then retried once and the
+   * re-check skips what already exists.
+   */
+  private void createMissingWithLocks(List<TranslationKey> keys) {
+    String loggerPrefix = getLoggerPrefix("createMissingWithLocks");
+
+    Set<String> names = keys.stream().map(TranslationKey::getName).collect(Collectors.toSet());
+    Runnable createMissing = () -> translationKeyLocks
+        .runWithLocks(TranslationFamily.ELEMENT, names, () -> requiresNewTransactionTemplate
+            .executeWithoutResult(status -> createMissing(keys)));
+    try {
+      createMissing.run();
+    } catch (DataIntegrityViolationException e) {
+      logger().warn(loggerPrefix + "Concurrent creation, retry : " + e.getMessage());
+      createMissing.run();
+    }
+  }
+
+  protected void createMissing(List<TranslationKey> keys) {
+    Set<String> names = keys.stream().map(TranslationKey::getName).collect(Collectors.toSet());
+
+    Map<String, Element> elements = new HashMap<>();
+    elementRepository.findByNameIn(names)
+        .forEach(element -> elements.put(element.getName(), element));
+
+    Map<Long, List<ElementTrl>> elementTrls = new HashMap<>();
+    if (!elements.isEmpty()) {
+      elementTrlRepository.findByElementIn(elements.values()).forEach(elementTrl -> elementTrls
+          .computeIfAbsent(elementTrl.getElement().getId(), id -> new ArrayList<>())
+          .add(elementTrl));
+    }
+
+    List<Element> newElements = new ArrayList<>();
+    for (String name : names) {
+      if (!elements.containsKey(name)) {
+        Element element = new Element();
+        element.setName(name);
+        element.setIsTranslated(false);
+        elements.put(name, element);
+        newElements.add(element);
+      }
+    }
+    elementRepository.saveAll(newElements);
+
+    List<ElementTrl> newElementTrls = new ArrayList<>();
+    for (TranslationKey key : keys) {
+      Element element = elements.get(key.getName());
+      List<ElementTrl> translations = elementTrls
+          .computeIfAbsent(element.getId(), id -> new ArrayList<>());
+      if (translations.stream()
+          .anyMatch(trl -> key.getIso3Language().equals(trl.getIso3Language()))) {
+        continue;
+      }
+      ElementTrl elementTrl = new ElementTrl();
+      elementTrl.setIso3Language(key.getIso3Language());
+      elementTrl.setElement(element);
+      elementTrl.setValue(translations.stream()
+          .filter(trl -> Boolean.TRUE.equals(trl.getIsDefault())).findFirst()
+          .map(ElementTrl::getValue).orElse(key.getName()));
+      elementTrl.setIsTranslated(false);
+      translations.add(elementTrl);
+      newElementTrls.add(elementTrl);
+    }
+    elementTrlRepository.saveAll(newElementTrls);
+  }
+
   @Override
   public List<ElementTrl> getByIso3Language(String iso3Language) {
     Assert.notNull(iso3Language, "ISO3 language is mandatory");
@@ -147,6 +456,13 @@ public class ElementTrlServiceImpl implements ElementTrlService, HasLogger {
     return elementTrlRepository.findByIso3Language(iso3Language);
   }
 
+  @Override
+  public List<TranslationEntry> findEntriesByIso3Language(String iso3Language) {
+    Assert.notNull(iso3Language, "ISO3 language is mandatory");
+
+    return elementTrlRepository.findEntriesByIso3Language(iso3Language);
+  }
+
   @Override
   public List<ElementTrl> saveAll(List<ElementTrl> translations) {
     return elementTrlRepository.saveAll(translations);
@@ -158,24 +474,31 @@ public class ElementTrlServiceImpl implements ElementTrlService, HasLogger {
     elementTrlRepository.deleteAll(elementTrls);
   }
 
-  @Transactional
   @Override
   public void postUpdate(ElementTrl elementTrl) {
-    boolean isAllTranslated = true;
+    onChange(elementTrl, false);
+  }
+
+  @Override
+  public void postRemove(ElementTrl elementTrl) {
+    onChange(elementTrl, true);
+  }
+
+  private void onChange(ElementTrl elementTrl, boolean isDeleted) {
     Element element = elementTrl.getElement();
-    List<ElementTrl> trls = element.getTranslations();
-    for (ElementTrl trl : trls) {
-      if (!trl.getIsTranslated()) {
-        isAllTranslated = false;
-        break;
-      }
+    if (element == null || elementTrl.getIso3Language() == null) {
+      return;
     }
-    if (isAllTranslated && !element.getIsTranslated()) {
-      element.setIsTranslated(true);
-      elementRepository.save(element);
-    } else if (!isAllTranslated && element.getIsTranslated()) {
-      element.setIsTranslated(false);
-      elementRepository.save(element);
+    elementTrlCache.evict(element.getName(), elementTrl.getIso3Language());
+    translationStatusUpdater.translationChanged(TranslationFamily.ELEMENT, element.getId());
+    if (isDeleted) {
+      translationChangePublisher.translationDeleted(TranslationFamily.ELEMENT, element.getId(),
+          element.getName(), elementTrl.getIso3Language());
+      translationTombstones.translationDeleted(TranslationFamily.ELEMENT, element.getName(),
+          elementTrl.getIso3Language());
+    } else {
+      translationChangePublisher.translationChanged(TranslationFamily.ELEMENT, element.getId(),
+          element.getName(), elementTrl.getIso3Language());
     }
   }
 
@@ -200,113 +523,134 @@ public class ElementTrlServiceImpl implements ElementTrlService, HasLogger {
   @Transactional
   public String importExcelFile(byte[] content) {
     String loggerPrefix = getLoggerPrefix("importExcelFile");
-    try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(content))) {
-      Sheet sheet = workbook.getSheet("Elements");
-      if (sheet == null) {
-        sheet = workbook.getSheet("elements");
-      }
-
-      logger().info(loggerPrefix + sheet.getPhysicalNumberOfRows() + " rows");
+    try {
+      return importRows(I18NWorkbookReader
+          .read(new ByteArrayInputStream(content), I18NWorkbookReader.ELEMENTS_SHEET)
+          .getOrDefault(I18NWorkbookReader.ELEMENTS_SHEET, Collections.emptyList()));
+    } catch (IOException e) {
+      logger().error(loggerPrefix + "Something wrong happen : " + e.getMessage(), e);
+      return e.getMessage();
+    }
+  }
 
-      Iterator<Row> rowIterator = sheet.rowIterator();
-      int rowIndex = 0;
+  /**
+   * Rows are grouped by element and handled by chunks of {@code importBatchSize} elements : the
+   * existing elements and translations of a chunk are loaded with two IN queries, only the new or
+   * changed entities are saved (JDBC batching), then the persistence context is cleared.
+   */
+  @Transactional
+  @Override
+  public String importRows(List<TranslationImportRow> rows) {
+    return importRows(rows, processedRows -> {
+    });
+  }
 
-      while (rowIterator.hasNext()) {
-        Row row = rowIterator.next();
+  @Transactional
+  @Override
+  public String importRows(List<TranslationImportRow> rows, IntConsumer progressListener) {
+    String loggerPrefix = getLoggerPrefix("importRows");
 
-        rowIndex++;
+    logger().info(loggerPrefix + rows.size() + " rows");
 
-        if (rowIndex == 1) {
+    try {
+      Map<String, List<TranslationImportRow>> rowsByName = new LinkedHashMap<>();
+      for (TranslationImportRow row : rows) {
+        if (row.getIso3Language() == null) {
+          logger().error(loggerPrefix + "Row " + row.getRowNum()
+              + " : Empty value for language, skip");
           continue;
         }
 
-        if (rowIndex % 10 == 0) {
-          logger().info(loggerPrefix + "Handle row " + rowIndex);
-        }
-
-        int colIdx = 0;
-        Cell categoryCell = row.getCell(colIdx++);
-        Cell name0Cell = row.getCell(colIdx++);
-        Cell name1Cell = row.getCell(colIdx++);
-        Cell name2Cell = row.getCell(colIdx++);
-        Cell name3Cell = row.getCell(colIdx++);
-        Cell langCell = row.getCell(colIdx++);
-        Cell valueCell = row.getCell(colIdx++);
-        Cell tooltipCell = row.getCell(colIdx);
-
-        if (langCell == null) {
-          logger().error(loggerPrefix + "Empty value for language, skip");
+        if (row.getName() == null) {
+          logger().error(loggerPrefix + "Row " + row.getRowNum() + " : Empty value for name, skip");
           continue;
         }
+        rowsByName.computeIfAbsent(row.getName(), name -> new ArrayList<>()).add(row);
+      }
 
-        if (name0Cell == null) {
-          logger().error(loggerPrefix + "Empty value for name, skip");
-          continue;
-        }
+      int skippedRows = rows.size() - rowsByName.values().stream().mapToInt(List::size).sum();
+      if (skippedRows > 0) {
+        progressListener.accept(skippedRows);
+      }
 
-        String category = categoryCell == null ? null : categoryCell.getStringCellValue();
+      List<String> names = new ArrayList<>(rowsByName.keySet());
+      for (int fromIndex = 0; fromIndex < names.size(); fromIndex += importBatchSize) {
+        List<String> chunk = names
+            .subList(fromIndex, Math.min(fromIndex + importBatchSize, names.size()));
+        importChunk(chunk, rowsByName);
+        entityManager.flush();
+        entityManager.clear();
+        progressListener.accept(chunk.stream().mapToInt(name -> rowsByName.get(name).size()).sum());
+
+        logger().info(loggerPrefix + "Handle " + (fromIndex + chunk.size()) + "/" + names.size()
+            + " elements");
+      }
+    } catch (Throwable e) {
+      logger().error(loggerPrefix + "Something wrong happen : " + e.getMessage(), e);
+      return e.getMessage();
+    }
 
-        String name = name0Cell.getStringCellValue();
-        if (name1Cell != null) {
-          name += "." + name1Cell.getStringCellValue();
-        }
-        if (name2Cell != null) {
-          name += "." + name2Cell.getStringCellValue();
-        }
-        if (name3Cell != null) {
-          name += "." + name3Cell.getStringCellValue();
-        }
+    logger().info(loggerPrefix + "Done");
 
-        String language = langCell.getStringCellValue();
+    hasBootstrapped = true;
+    return null;
+  }
 
-        Optional<Element> _element = elementRepository.getByName(name);
-        Element element;
-        if (!_element.isPresent()) {
-          element = new Element();
-          element.setName(name);
-          element.setCategory(category);
-          element.setIsTranslated(true);
-          element = elementRepository.save(element);
-        } else {
-          element = _element.get();
+  private void importChunk(List<String> names,
+      Map<String, List<TranslationImportRow>> rowsByName) {
+    Map<String, Element> elements = new HashMap<>();
+    elementRepository.findByNameIn(names)
+        .forEach(element -> elements.put(element.getName(), element));
+
+    Map<Long, Map<String, ElementTrl>> elementTrls = new HashMap<>();
+    if (!elements.isEmpty()) {
+      elementTrlRepository.findByElementIn(elements.values()).forEach(elementTrl -> elementTrls
+          .computeIfAbsent(elementTrl.getElement().getId(), id -> new HashMap<>())
+          .put(elementTrl.getIso3Language(), elementTrl));
+    }
+
+    List<Element> elementsToSave = new ArrayList<>();
+    List<ElementTrl> elementTrlsToSave = new ArrayList<>();
+    for (String name : names) {
+      List<TranslationImportRow> elementRows = rowsByName.get(name);
+      String category = elementRows.get(elementRows.size() - 1).getCategory();
+
+      Element element = elements.get(name);
+      Map<String, ElementTrl> translations;
+      if (element == null) {
+        element = new Element();
+        element.setName(name);
+        element.setCategory(category);
+        element.setIsTranslated(true);
+        elementsToSave.add(element);
+        translations = new HashMap<>();
+      } else {
+        // isTranslated is recomputed at commit by the TranslationStatusUpdater
+        if (!Objects.equals(category, element.getCategory())) {
           element.setCategory(category);
-          element.setIsTranslated(true);
-          element = elementRepository.save(element);
+          elementsToSave.add(element);
         }
+        translations = elementTrls.getOrDefault(element.getId(), new HashMap<>());
+      }
 
-        Optional<ElementTrl> _elementTrl = elementTrlRepository
-            .getByElementAndIso3Language(element, language);
-        ElementTrl elementTrl;
-        if (!_elementTrl.isPresent()) {
+      for (TranslationImportRow row : elementRows) {
+        ElementTrl elementTrl = translations.get(row.getIso3Language());
+        if (elementTrl == null) {
           elementTrl = new ElementTrl();
-          elementTrl.setValue(valueCell == null ? "" : valueCell.getStringCellValue());
-          elementTrl.setTooltip(tooltipCell == null ? null : tooltipCell.getStringCellValue());
-          elementTrl.setIso3Language(language);
+          elementTrl.setIso3Language(row.getIso3Language());
           elementTrl.setElement(element);
-          elementTrl.setIsTranslated(true);
-
-          elementTrlRepository.save(elementTrl);
-        } else {
-          elementTrl = _elementTrl.get();
-          if (!elementTrl.getIsTranslated()) {
-            elementTrl.setValue(valueCell == null ? "" : valueCell.getStringCellValue());
-            elementTrl.setTooltip(tooltipCell == null ? null : tooltipCell.getStringCellValue());
-            elementTrl.setIso3Language(language);
-            elementTrl.setElement(element);
-            elementTrl.setIsTranslated(true);
-
-            elementTrlRepository.save(elementTrl);
-          }
+          translations.put(row.getIso3Language(), elementTrl);
+        } else if (Boolean.TRUE.equals(elementTrl.getIsTranslated())) {
+          continue;
         }
+        elementTrl.setValue(row.getValue() == null ? "" : row.getValue());
+        elementTrl.setTooltip(row.getTooltip());
+        elementTrl.setIsTranslated(true);
+        elementTrlsToSave.add(elementTrl);
       }
-    } catch (Throwable e) {
-      logger().error(loggerPrefix + "Something wrong happen : " + e.getMessage(), e);
-      return e.getMessage();
     }
 
-    logger().info(loggerPrefix + "Done");
-
-    hasBootstrapped = true;
-    return null;
+    elementRepository.saveAll(elementsToSave);
+    elementTrlRepository.saveAll(elementTrlsToSave);
   }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.jhapy.i18n.dto.I18NImportJob;
+
+/**
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface I18NImportJobService {
+
+  /**
+   * Spool the file and import it in background
+   *
+   * @return The submitted job, to be polled with {@link #getJob(String)}
+   */
+  I18NImportJob submit(InputStream fileToImport) throws IOException;
+
+  /**
+   * @return The job, or null when unknown or expired
+   */
+  I18NImportJob getJob(String jobId);
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jhapy.commons.utils.HasLogger;
+import org.jhapy.i18n.dto.I18NImportJob;
+import org.jhapy.i18n.dto.I18NImportJob.Status;
+import org.jhapy.i18n.importer.I18NWorkbookReader;
+import org.jhapy.i18n.importer.TranslationImportRow;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Asynchronous I18N file import : the workbook is parsed once, then the Actions, Elements and
+ * Messages sheets are imported in parallel, each one in its own transaction.
+ * <p>
+ * The job state is kept in a Hazelcast map so it can be polled from any node, it is refreshed at
+ * most once per second while the import is running.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class I18NImportJobServiceImpl implements I18NImportJobService, HasLogger, DisposableBean {
+
+  public static final String IMPORT_JOBS_MAP = "i18nImportJobs";
+
+  private static final long PROGRESS_PUBLISH_INTERVAL_MILLIS = 1000;
+
+  private final ActionTrlService actionTrlService;
+  private final ElementTrlService elementTrlService;
+  private final MessageTrlService messageTrlService;
+  private final HazelcastInstance hazelcastInstance;
+  private final ThreadPoolTaskExecutor importThreadPool;
+  private final Executor importExecutor;
+
+  @Value("${jhapy.i18n.import.jobTimeToLiveSeconds:86400}")
+  private long jobTimeToLiveSeconds;
+
+  public I18NImportJobServiceImpl(ActionTrlService actionTrlService,
+      ElementTrlService elementTrlService, MessageTrlService messageTrlService,
+      HazelcastInstance hazelcastInstance,
+      @Value("${jhapy.i18n.import.threads:3}") int importThreads) {
+    this.actionTrlService = actionTrlService;
+    this.elementTrlService = elementTrlService;
+    this.messageTrlService = messageTrlService;
+    this.hazelcastInstance = hazelcastInstance;
+
+    this.importThreadPool = new ThreadPoolTaskExecutor();
+    this.importThreadPool.setCorePoolSize(importThreads);
+    this.importThreadPool.setMaxPoolSize(importThreads);
+    this.importThreadPool.setThreadNamePrefix("i18n-import-");
+    this.importThreadPool.initialize();
+    // Keep the caller as auditor (createdBy / modifiedBy) in the import threads
+    this.importExecutor = new DelegatingSecurityContextExecutor(importThreadPool);
+  }
+
+  @Override
+  public void destroy() {
+    importThreadPool.shutdown();
+  }
+
+  @Override
+  public I18NImportJob submit(InputStream fileToImport) throws IOException {
+    String loggerPrefix = getLoggerPrefix("submit");
+
+    Path file = Files.createTempFile("i18n-import-", ".xlsx");
+    try {
+      Files.copy(fileToImport, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+
+    RunningJob runningJob = new RunningJob();
+    logger().info(loggerPrefix + "Job " + runningJob.job.getJobId() + " submitted");
+    runningJob.publish();
+
+    importExecutor.execute(() -> run(runningJob, file));
+    return getJob(runningJob.job.getJobId());
+  }
+
+  @Override
+  public I18NImportJob getJob(String jobId) {
+    return getJobs().get(jobId);
+  }
+
+  private void run(RunningJob runningJob, Path file) {
+    String loggerPrefix = getLoggerPrefix("run", runningJob.job.getJobId());
+
+    Map<String, List<TranslationImportRow>> sheets;
+    try (InputStream inputStream = Files.newInputStream(file)) {
+      sheets = I18NWorkbookReader.read(inputStream, I18NWorkbookReader.ACTIONS_SHEET,
+          I18NWorkbookReader.ELEMENTS_SHEET, I18NWorkbookReader.MESSAGES_SHEET);
+    } catch (Throwable t) {
+      logger().error(loggerPrefix + "Something wrong happen : " + t.getMessage(), t);
+      runningJob.finished(t.getMessage());
+      return;
+    } finally {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        logger().warn(loggerPrefix + "Cannot delete '" + file + "' : " + e.getMessage());
+      }
+    }
+
+    runningJob.started(sheets.values().stream().mapToLong(List::size).sum());
+
+    CompletableFuture<String> actionsResult = CompletableFuture.supplyAsync(
+        () -> actionTrlService.importRows(getRows(sheets, I18NWorkbookReader.ACTIONS_SHEET),
+            runningJob::progress), importExecutor);
+    CompletableFuture<String> elementsResult = CompletableFuture.supplyAsync(
+        () -> elementTrlService.importRows(getRows(sheets, I18NWorkbookReader.ELEMENTS_SHEET),
+            runningJob::progress), importExecutor);
+    CompletableFuture<String> messagesResult = CompletableFuture.supplyAsync(
+        () -> messageTrlService.importRows(getRows(sheets, I18NWorkbookReader.MESSAGES_SHEET),
+            runningJob::progress), importExecutor);
+
+    CompletableFuture.allOf(actionsResult, elementsResult, messagesResult)
+        .whenComplete((result, t) -> {
+          String errorMessage;
+          if (t != null) {
+            logger().error(loggerPrefix + "Something wrong happen : " + t.getMessage(), t);
+            errorMessage = t.getMessage();
+          } else if (actionsResult.join() != null) {
+            errorMessage = actionsResult.join();
+          } else if (elementsResult.join() != null) {
+            errorMessage = elementsResult.join();
+          } else {
+            errorMessage = messagesResult.join();
+          }
+          runningJob.finished(errorMessage);
+          logger().info(loggerPrefix + "Job done : " + runningJob.job.getStatus());
+        });
+  }
+
+  private List<TranslationImportRow> getRows(Map<String, List<TranslationImportRow>> sheets,
+      String sheetName) {
+    return sheets.getOrDefault(sheetName, Collections.emptyList());
+  }
+
+  private IMap<String, I18NImportJob> getJobs() {
+    return hazelcastInstance.getMap(IMPORT_JOBS_MAP);
+  }
+
+  private class RunningJob {
+
+    private final I18NImportJob job = new I18NImportJob();
+    private final AtomicLong processedRows = new AtomicLong();
+    private volatile long lastPublished;
+
+    RunningJob() {
+      job.setJobId(UUID.randomUUID().toString());
+      job.setStatus(Status.SUBMITTED);
+      job.setSubmitted(Instant.now());
+    }
+
+    synchronized void started(long totalRows) {
+      job.setStatus(Status.RUNNING);
+      job.setStarted(Instant.now());
+      job.setTotalRows(totalRows);
+      publish();
+    }
+
+    void progress(int rows) {
+      processedRows.addAndGet(rows);
+      if (System.currentTimeMillis() - lastPublished >= PROGRESS_PUBLISH_INTERVAL_MILLIS) {
+        publish();
+      }
+    }
+
+    synchronized void finished(String errorMessage) {
+      job.setStatus(errorMessage == null ? Status.DONE : Status.FAILED);
+      job.setErrorMessage(errorMessage);
+      job.setFinished(Instant.now());
+      publish();
+    }
+
+    synchronized void publish() {
+      lastPublished = System.currentTimeMillis();
+
+      long processed = processedRows.get();
+      job.setProcessedRows(processed);
+      if (job.getStarted() != null) {
+        Instant end = job.getFinished() == null ? Instant.now() : job.getFinished();
+        long elapsedMillis = Math.max(1, Duration.between(job.getStarted(), end).toMillis());
+        job.setRowsPerSecond(processed * 1000d / elapsedMillis);
+      }
+      if (job.getStatus() == Status.DONE) {
+        job.setPercentComplete(100);
+      } else if (job.getTotalRows() > 0) {
+        job.setPercentComplete((int) (processed * 100 / job.getTotalRows()));
+      }
+
+      getJobs().set(job.getJobId(), job, jobTimeToLiveSeconds, TimeUnit.SECONDS);
+    }
+  }
+}
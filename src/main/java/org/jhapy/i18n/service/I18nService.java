@@ -18,6 +18,11 @@
 
 package org.jhapy.i18n.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.jhapy.i18n.dto.I18NBundle;
+
 /**
  * @author jHapy Lead Dev.
  * @version 1.0
@@ -27,5 +32,16 @@ public interface I18nService {
 
   Byte[] getI18NFile();
 
+  void writeI18NFile(OutputStream outputStream) throws IOException;
+
   String importI18NFile(Byte[] fileToImport);
+
+  String importI18NFile(InputStream fileToImport) throws IOException;
+
+  I18NBundle getBundle(String iso3Language);
+
+  /**
+   * Version of the bundle of the given language, changes each time one of its translations changes
+   */
+  long getBundleVersion(String iso3Language);
 }
@@ -18,12 +18,18 @@
 
 package org.jhapy.i18n.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -35,23 +41,27 @@ import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.jhapy.i18n.domain.Action;
-import org.jhapy.i18n.domain.ActionTrl;
-import org.jhapy.i18n.domain.Element;
-import org.jhapy.i18n.domain.ElementTrl;
-import org.jhapy.i18n.domain.Message;
-import org.jhapy.i18n.domain.MessageTrl;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.jhapy.commons.utils.HasLogger;
+import org.jhapy.i18n.cache.CatalogueVersion;
+import org.jhapy.i18n.cache.I18NBundleCache;
+import org.jhapy.i18n.dto.I18NBundle;
+import org.jhapy.i18n.dto.TranslationEntry;
+import org.jhapy.i18n.dto.TranslationValue;
+import org.jhapy.i18n.importer.I18NWorkbookReader;
+import org.jhapy.i18n.importer.TranslationImportRow;
 import org.jhapy.i18n.repository.ActionRepository;
 import org.jhapy.i18n.repository.ActionTrlRepository;
 import org.jhapy.i18n.repository.ElementRepository;
 import org.jhapy.i18n.repository.ElementTrlRepository;
 import org.jhapy.i18n.repository.MessageRepository;
 import org.jhapy.i18n.repository.MessageTrlRepository;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Order;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
 
 /**
  * @author jHapy Lead Dev.
@@ -61,7 +71,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(readOnly = true)
 @Service
-public class I18nServiceImpl implements I18nService {
+public class I18nServiceImpl implements I18nService, HasLogger {
 
   private final ElementTrlService elementTrlService;
   private final ElementRepository elementRepository;
@@ -75,6 +85,15 @@ public class I18nServiceImpl implements I18nService {
   private final ActionRepository actionRepository;
   private final ActionTrlRepository actionTrlRepository;
 
+  private final I18NBundleCache i18NBundleCache;
+  private final CatalogueVersion catalogueVersion;
+  private final TransactionTemplate readOnlyTransactionTemplate;
+
+  /**
+   * Number of rows kept in memory per sheet during the export
+   */
+  private final static int EXPORT_ROW_ACCESS_WINDOW = 100;
+
   private final static String[] i18nExportHeaders = new String[]{"Cat", "Name0", "Name1", "Name2",
       "Name3", "Language", "Value", "Tooltip", "Key"};
   private final static String[] i18nExportMessageHeaders = new String[]{"Cat", "Name0", "Name1",
@@ -88,7 +107,10 @@ public class I18nServiceImpl implements I18nService {
       MessageTrlRepository messageTrlRepository,
       ActionTrlService actionTrlService,
       ActionRepository actionRepository,
-      ActionTrlRepository actionTrlRepository) {
+      ActionTrlRepository actionTrlRepository,
+      I18NBundleCache i18NBundleCache,
+      CatalogueVersion catalogueVersion,
+      PlatformTransactionManager transactionManager) {
     this.elementTrlService = elementTrlService;
     this.elementRepository = elementRepository;
     this.elementTrlRepository = elementTrlRepository;
@@ -98,6 +120,10 @@ public class I18nServiceImpl implements I18nService {
     this.actionTrlService = actionTrlService;
     this.actionRepository = actionRepository;
     this.actionTrlRepository = actionTrlRepository;
+    this.i18NBundleCache = i18NBundleCache;
+    this.catalogueVersion = catalogueVersion;
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
   }
 
 
@@ -130,290 +156,234 @@ public class I18nServiceImpl implements I18nService {
   }
 
   public Byte[] getI18NFile() {
-    Workbook wb = new XSSFWorkbook();
-
-    Map<String, CellStyle> styles = createStyles(wb);
-    {
-      Sheet sheet = wb.createSheet("Elements");
-
-      Row headerRow = sheet.createRow(0);
-      headerRow.setHeightInPoints(12.75f);
-      for (int i = 0; i < i18nExportHeaders.length; i++) {
-        Cell cell = headerRow.createCell(i);
-        cell.setCellValue(i18nExportHeaders[i]);
-        cell.setCellStyle(styles.get("header"));
-      }
-
-      sheet.createFreezePane(0, 1);
-
-      Row row;
-      Cell cell;
-      int rownum = 1;
-      List<Element> elementList = elementRepository
-          .findAll(Sort.by(Order.asc("category"), Order.asc("name")));
-      List<String> iso3Languages = elementTrlRepository.getIso3Languages();
-
-      for (Element element : elementList) {
-        for (String iso3Language : iso3Languages) {
-          row = sheet.createRow(rownum);
-
-          int j = 0;
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          cell.setCellValue(element.getCategory());
-
-          String[] nameSplited = element.getName().split("\\.");
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          cell.setCellValue(nameSplited[0]);
-
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (nameSplited.length > 1) {
-            cell.setCellValue(nameSplited[1]);
-          }
+    String loggerPrefix = getLoggerPrefix("getI18NFile");
 
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (nameSplited.length > 2) {
-            cell.setCellValue(nameSplited[2]);
-          }
-
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (nameSplited.length > 3) {
-            cell.setCellValue(nameSplited[3]);
-          }
-
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          cell.setCellValue(iso3Language);
-
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          Optional<ElementTrl> _elementTrl = elementTrlRepository
-              .getByElementAndIso3Language(element, iso3Language);
-          if (_elementTrl.isPresent() && !_elementTrl.get().getValue().equals(element.getName())) {
-            cell.setCellValue(_elementTrl.get().getValue());
-          }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try {
+      writeI18NFile(outputStream);
+    } catch (IOException e) {
+      // Never return a truncated workbook
+      logger().error(loggerPrefix + "Something wrong happen : " + e.getMessage(), e);
+      throw new UncheckedIOException(e);
+    }
+    return ArrayUtils.toObject(outputStream.toByteArray());
+  }
 
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (_elementTrl.isPresent() && !_elementTrl.get().getValue().equals(element.getName())) {
-            cell.setCellValue(_elementTrl.get().getTooltip());
-          }
+  /**
+   * Stream the export: only a window of rows is kept in memory by the workbook (the rest is
+   * flushed to a compressed temporary file) and the translations are read with a streamed query.
+   */
+  public void writeI18NFile(OutputStream outputStream) throws IOException {
+    SXSSFWorkbook wb = new SXSSFWorkbook(EXPORT_ROW_ACCESS_WINDOW);
+    wb.setCompressTempFiles(true);
+    try {
+      Map<String, CellStyle> styles = createStyles(wb);
 
-          rownum++;
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_g"));
-          cell.setCellFormula("B" + rownum
-              + "&IF(C" + rownum + "<>\"\",\".\"&C" + rownum + ",\"\")&IF(D" + rownum
-              + "<>\"\",\".\"&D" + rownum + ",\"\")&IF(E" + rownum + "<>\"\",\".\"&E" + rownum
-              + ",\"\")");
-        }
+      try (Stream<TranslationEntry> entries = elementTrlRepository.streamAllEntries()) {
+        createSheet(wb, styles, "Elements", i18nExportHeaders, true, entries.iterator(),
+            elementTrlRepository.getIso3Languages());
       }
-      sheet.setColumnWidth(0, 256 * 10);
-      sheet.setColumnWidth(1, 256 * 15);
-      sheet.setColumnWidth(2, 256 * 25);
-      sheet.setColumnWidth(3, 256 * 25);
-      sheet.setColumnWidth(4, 256 * 25);
-      sheet.setColumnWidth(5, 256 * 10);
-      sheet.setColumnWidth(6, 256 * 65);
-      sheet.setColumnWidth(7, 256 * 65);
-      sheet.setColumnWidth(8, 256 * 45);
-    }
-    {
-      Sheet sheet = wb.createSheet("Actions");
-
-      Row headerRow = sheet.createRow(0);
-      headerRow.setHeightInPoints(12.75f);
-      for (int i = 0; i < i18nExportHeaders.length; i++) {
-        Cell cell = headerRow.createCell(i);
-        cell.setCellValue(i18nExportHeaders[i]);
-        cell.setCellStyle(styles.get("header"));
+      try (Stream<TranslationEntry> entries = actionTrlRepository.streamAllEntries()) {
+        createSheet(wb, styles, "Actions", i18nExportHeaders, true, entries.iterator(),
+            actionTrlRepository.getIso3Languages());
+      }
+      try (Stream<TranslationEntry> entries = messageTrlRepository.streamAllEntries()) {
+        createSheet(wb, styles, "Messages", i18nExportMessageHeaders, false, entries.iterator(),
+            messageTrlRepository.getIso3Languages());
       }
 
-      sheet.createFreezePane(0, 1);
-
-      Row row;
-      Cell cell;
-      int rownum = 1;
-      List<Action> actionList = actionRepository
-          .findAll(Sort.by(Order.asc("category"), Order.asc("name")));
-      List<String> iso3Languages = actionTrlRepository.getIso3Languages();
-
-      for (Action action : actionList) {
-        for (String iso3Language : iso3Languages) {
-          row = sheet.createRow(rownum);
-
-          int j = 0;
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          cell.setCellValue(action.getCategory());
-
-          String[] nameSplited = action.getName().split("\\.");
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          cell.setCellValue(nameSplited[0]);
-
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (nameSplited.length > 1) {
-            cell.setCellValue(nameSplited[1]);
-          }
-
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (nameSplited.length > 2) {
-            cell.setCellValue(nameSplited[2]);
-          }
-
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (nameSplited.length > 3) {
-            cell.setCellValue(nameSplited[3]);
-          }
+      wb.write(outputStream);
+    } finally {
+      wb.dispose();
+      wb.close();
+    }
+  }
 
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          cell.setCellValue(iso3Language);
+  /**
+   * Write one row per (name, language). The entries come from a single join ordered by category,
+   * name and language, so all the translations of a name are consecutive.
+   */
+  private void createSheet(Workbook wb, Map<String, CellStyle> styles, String sheetName,
+      String[] headers, boolean hasTooltip, Iterator<TranslationEntry> entries,
+      List<String> iso3Languages) {
+    Sheet sheet = wb.createSheet(sheetName);
+
+    Row headerRow = sheet.createRow(0);
+    headerRow.setHeightInPoints(12.75f);
+    for (int i = 0; i < headers.length; i++) {
+      Cell cell = headerRow.createCell(i);
+      cell.setCellValue(headers[i]);
+      cell.setCellStyle(styles.get("header"));
+    }
 
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          Optional<ActionTrl> _actionTrl = actionTrlRepository
-              .getByActionAndIso3Language(action, iso3Language);
-          if (_actionTrl.isPresent() && !_actionTrl.get().getValue().equals(action.getName())) {
-            cell.setCellValue(_actionTrl.get().getValue());
-          }
+    sheet.createFreezePane(0, 1);
 
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (_actionTrl.isPresent() && !_actionTrl.get().getValue().equals(action.getName())) {
-            cell.setCellValue(_actionTrl.get().getTooltip());
-          }
+    Row row;
+    Cell cell;
+    int rownum = 1;
+    TranslationEntry next = entries.hasNext() ? entries.next() : null;
+    Map<String, TranslationEntry> translations = new HashMap<>();
 
-          rownum++;
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_g"));
-          cell.setCellFormula("B" + rownum
-              + "&IF(C" + rownum + "<>\"\",\".\"&C" + rownum + ",\"\")&IF(D" + rownum
-              + "<>\"\",\".\"&D" + rownum + ",\"\")&IF(E" + rownum + "<>\"\",\".\"&E" + rownum
-              + ",\"\")");
+    while (next != null) {
+      TranslationEntry current = next;
+      translations.clear();
+      while (next != null && next.getName().equals(current.getName())) {
+        if (next.getIso3Language() != null) {
+          translations.put(next.getIso3Language(), next);
         }
-      }
-      sheet.setColumnWidth(0, 256 * 10);
-      sheet.setColumnWidth(1, 256 * 15);
-      sheet.setColumnWidth(2, 256 * 25);
-      sheet.setColumnWidth(3, 256 * 25);
-      sheet.setColumnWidth(4, 256 * 25);
-      sheet.setColumnWidth(5, 256 * 10);
-      sheet.setColumnWidth(6, 256 * 65);
-      sheet.setColumnWidth(7, 256 * 65);
-      sheet.setColumnWidth(8, 256 * 45);
-    }
-    {
-      Sheet sheet = wb.createSheet("Messages");
-
-      Row headerRow = sheet.createRow(0);
-      headerRow.setHeightInPoints(12.75f);
-      for (int i = 0; i < i18nExportMessageHeaders.length; i++) {
-        Cell cell = headerRow.createCell(i);
-        cell.setCellValue(i18nExportMessageHeaders[i]);
-        cell.setCellStyle(styles.get("header"));
+        next = entries.hasNext() ? entries.next() : null;
       }
 
-      sheet.createFreezePane(0, 1);
+      String[] nameSplited = current.getName().split("\\.");
+      for (String iso3Language : iso3Languages) {
+        row = sheet.createRow(rownum);
 
-      Row row;
-      Cell cell;
-      int rownum = 1;
-      List<Message> messageList = messageRepository
-          .findAll(Sort.by(Order.asc("category"), Order.asc("name")));
-      List<String> iso3Languages = messageTrlRepository.getIso3Languages();
+        int j = 0;
+        cell = row.createCell(j++);
+        cell.setCellStyle(styles.get("cell_normal"));
+        cell.setCellValue(current.getCategory());
 
-      for (Message message : messageList) {
-        for (String iso3Language : iso3Languages) {
-          row = sheet.createRow(rownum);
+        cell = row.createCell(j++);
+        cell.setCellStyle(styles.get("cell_normal"));
+        cell.setCellValue(nameSplited[0]);
 
-          int j = 0;
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          cell.setCellValue(message.getCategory());
+        cell = row.createCell(j++);
+        cell.setCellStyle(styles.get("cell_normal"));
+        if (nameSplited.length > 1) {
+          cell.setCellValue(nameSplited[1]);
+        }
 
-          String[] nameSplited = message.getName().split("\\.");
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          cell.setCellValue(nameSplited[0]);
+        cell = row.createCell(j++);
+        cell.setCellStyle(styles.get("cell_normal"));
+        if (nameSplited.length > 2) {
+          cell.setCellValue(nameSplited[2]);
+        }
 
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (nameSplited.length > 1) {
-            cell.setCellValue(nameSplited[1]);
-          }
+        cell = row.createCell(j++);
+        cell.setCellStyle(styles.get("cell_normal"));
+        if (nameSplited.length > 3) {
+          cell.setCellValue(nameSplited[3]);
+        }
 
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (nameSplited.length > 2) {
-            cell.setCellValue(nameSplited[2]);
-          }
+        cell = row.createCell(j++);
+        cell.setCellStyle(styles.get("cell_normal"));
+        cell.setCellValue(iso3Language);
 
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          if (nameSplited.length > 3) {
-            cell.setCellValue(nameSplited[3]);
-          }
+        TranslationEntry translation = translations.get(iso3Language);
+        boolean isTranslated = translation != null && translation.getValue() != null
+            && !translation.getValue().equals(current.getName());
 
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_normal"));
-          cell.setCellValue(iso3Language);
+        cell = row.createCell(j++);
+        cell.setCellStyle(styles.get("cell_normal"));
+        if (isTranslated) {
+          cell.setCellValue(translation.getValue());
+        }
 
+        if (hasTooltip) {
           cell = row.createCell(j++);
           cell.setCellStyle(styles.get("cell_normal"));
-          Optional<MessageTrl> _messageTrl = messageTrlRepository
-              .getByMessageAndIso3Language(message, iso3Language);
-          if (_messageTrl.isPresent() && !_messageTrl.get().getValue().equals(message.getName())) {
-            cell.setCellValue(_messageTrl.get().getValue());
+          if (isTranslated) {
+            cell.setCellValue(translation.getTooltip());
           }
-          rownum++;
-          cell = row.createCell(j++);
-          cell.setCellStyle(styles.get("cell_g"));
-          cell.setCellFormula("B" + rownum
-              + "&IF(C" + rownum + "<>\"\",\".\"&C" + rownum + ",\"\")&IF(D" + rownum
-              + "<>\"\",\".\"&D" + rownum + ",\"\")&IF(E" + rownum + "<>\"\",\".\"&E" + rownum
-              + ",\"\")");
         }
+
+        rownum++;
+        cell = row.createCell(j++);
+        cell.setCellStyle(styles.get("cell_g"));
+        cell.setCellFormula("B" + rownum
+            + "&IF(C" + rownum + "<>\"\",\".\"&C" + rownum + ",\"\")&IF(D" + rownum
+            + "<>\"\",\".\"&D" + rownum + ",\"\")&IF(E" + rownum + "<>\"\",\".\"&E" + rownum
+            + ",\"\")");
       }
-      sheet.setColumnWidth(0, 256 * 10);
-      sheet.setColumnWidth(1, 256 * 15);
-      sheet.setColumnWidth(2, 256 * 25);
-      sheet.setColumnWidth(3, 256 * 25);
-      sheet.setColumnWidth(4, 256 * 25);
-      sheet.setColumnWidth(5, 256 * 10);
-      sheet.setColumnWidth(6, 256 * 65);
+    }
+    sheet.setColumnWidth(0, 256 * 10);
+    sheet.setColumnWidth(1, 256 * 15);
+    sheet.setColumnWidth(2, 256 * 25);
+    sheet.setColumnWidth(3, 256 * 25);
+    sheet.setColumnWidth(4, 256 * 25);
+    sheet.setColumnWidth(5, 256 * 10);
+    sheet.setColumnWidth(6, 256 * 65);
+    if (hasTooltip) {
+      sheet.setColumnWidth(7, 256 * 65);
+      sheet.setColumnWidth(8, 256 * 45);
+    } else {
       sheet.setColumnWidth(7, 256 * 45);
     }
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+  }
+
+  @Transactional
+  public String importI18NFile(Byte[] fileToImport) {
     try {
-      wb.write(outputStream);
+      return importI18NFile(new ByteArrayInputStream(ArrayUtils.toPrimitive(fileToImport)));
     } catch (IOException e) {
-      e.printStackTrace();
+      logger().error(getLoggerPrefix("importI18NFile") + "Something wrong happen : "
+          + e.getMessage(), e);
+      return e.getMessage();
     }
-    return ArrayUtils.toObject(outputStream.toByteArray());
   }
 
-  public String importI18NFile(Byte[] fileToImport) {
-    byte[] fileContent = ArrayUtils.toPrimitive(fileToImport);
-    String fileImportResult = actionTrlService.importExcelFile(fileContent);
+  /**
+   * The workbook is parsed only once, then each sheet is handed to its importer
+   */
+  @Transactional
+  public String importI18NFile(InputStream fileToImport) throws IOException {
+    Map<String, List<TranslationImportRow>> sheets = I18NWorkbookReader.read(fileToImport,
+        I18NWorkbookReader.ACTIONS_SHEET, I18NWorkbookReader.ELEMENTS_SHEET,
+        I18NWorkbookReader.MESSAGES_SHEET);
+
+    String fileImportResult = actionTrlService.importRows(
+        sheets.getOrDefault(I18NWorkbookReader.ACTIONS_SHEET, Collections.emptyList()));
     if (fileImportResult != null) {
       return fileImportResult;
     }
 
-    fileImportResult = elementTrlService.importExcelFile(fileContent);
+    fileImportResult = elementTrlService.importRows(
+        sheets.getOrDefault(I18NWorkbookReader.ELEMENTS_SHEET, Collections.emptyList()));
     if (fileImportResult != null) {
       return fileImportResult;
     }
 
-    fileImportResult = messageTrlService.importExcelFile(fileContent);
+    fileImportResult = messageTrlService.importRows(
+        sheets.getOrDefault(I18NWorkbookReader.MESSAGES_SHEET, Collections.emptyList()));
     return fileImportResult;
   }
+
+  /**
+   * Served from the per language snapshot, which is only built (in a read only transaction) on
+   * the first call after a change. The version is read before the translations, so a snapshot
+   * racing with a change is tagged with the old version and rebuilt on the next call.
+   */
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public I18NBundle getBundle(String iso3Language) {
+    Assert.notNull(iso3Language, "ISO3 language is mandatory");
+
+    long version = catalogueVersion.getVersion(iso3Language);
+    I18NBundle bundle = i18NBundleCache.get(iso3Language, version);
+    if (bundle != null) {
+      return bundle;
+    }
+
+    bundle = readOnlyTransactionTemplate.execute(status -> new I18NBundle(iso3Language, version,
+        toValues(elementTrlRepository.findEntriesByIso3Language(iso3Language)),
+        toValues(actionTrlRepository.findEntriesByIso3Language(iso3Language)),
+        toValues(messageTrlRepository.findEntriesByIso3Language(iso3Language))));
+    i18NBundleCache.put(bundle);
+    return bundle;
+  }
+
+  @Override
+  public long getBundleVersion(String iso3Language) {
+    Assert.notNull(iso3Language, "ISO3 language is mandatory");
+
+    return catalogueVersion.getVersion(iso3Language);
+  }
+
+  private static Map<String, TranslationValue> toValues(List<TranslationEntry> entries) {
+    Map<String, TranslationValue> values = new HashMap<>(entries.size() * 4 / 3 + 1);
+    for (TranslationEntry entry : entries) {
+      values.put(entry.getName(), new TranslationValue(entry.getValue(), entry.getTooltip()));
+    }
+    return Collections.unmodifiableMap(values);
+  }
 }
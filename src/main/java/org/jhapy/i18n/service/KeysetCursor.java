@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import lombok.Data;
+import org.jhapy.i18n.domain.BaseEntity;
+import org.jhapy.i18n.dto.KeysetPage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Position in a search ordered by (category, name, id), encoded as an opaque Base64 cursor.
+ * <p>
+ * The parents without category come first. As a null category can't be compared, they are read
+ * by a query of their own, then the categorized parents are read from the smallest category.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+public class KeysetCursor {
+
+  public static final int DEFAULT_SIZE = 50;
+  public static final int MAX_SIZE = 1000;
+
+  private static final String SEPARATOR = "\u0000";
+  private static final String CATEGORY_PREFIX = "c";
+
+  private static final KeysetCursor FIRST_UNCATEGORIZED = new KeysetCursor(null, "", 0L);
+  private static final KeysetCursor FIRST_CATEGORIZED = new KeysetCursor("", "", 0L);
+
+  /**
+   * Null while reading the parents without category
+   */
+  private final String category;
+  private final String name;
+  private final Long id;
+
+  public String encode() {
+    String key = (category == null ? "" : CATEGORY_PREFIX + category) + SEPARATOR + name
+        + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param cursor null for the first page
+   */
+  public static KeysetCursor decode(String cursor) {
+    if (cursor == null || cursor.isEmpty()) {
+      return FIRST_UNCATEGORIZED;
+    }
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+          .split(SEPARATOR, 3);
+      String category = parts[0].isEmpty() ? null : parts[0].substring(CATEGORY_PREFIX.length());
+      return new KeysetCursor(category, parts[1], Long.valueOf(parts[2]));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid cursor : " + cursor, e);
+    }
+  }
+
+  /**
+   * Page following the cursor. One more parent than the page size is read to know whether there
+   * is a next page.
+   *
+   * @param findUncategorizedAfter parents without category after the cursor (name, id)
+   * @param findCategorizedAfter parents with a category after the cursor (category, name, id)
+   */
+  public static <T extends BaseEntity> KeysetPage<T> getPage(String cursor, Integer size,
+      Function<T, String> categoryGetter, Function<T, String> nameGetter,
+      BiFunction<KeysetCursor, Pageable, List<T>> findUncategorizedAfter,
+      BiFunction<KeysetCursor, Pageable, List<T>> findCategorizedAfter) {
+    int pageSize = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    int limit = pageSize + 1;
+    KeysetCursor after = decode(cursor);
+
+    List<T> content = new ArrayList<>(limit);
+    if (after.getCategory() == null) {
+      content.addAll(findUncategorizedAfter.apply(after, PageRequest.of(0, limit)));
+      after = FIRST_CATEGORIZED;
+    }
+    if (content.size() < limit) {
+      content.addAll(findCategorizedAfter.apply(after, PageRequest.of(0, limit - content.size())));
+    }
+
+    String nextCursor = null;
+    if (content.size() > pageSize) {
+      content = new ArrayList<>(content.subList(0, pageSize));
+      T last = content.get(pageSize - 1);
+      nextCursor = new KeysetCursor(categoryGetter.apply(last), nameGetter.apply(last),
+          last.getId()).encode();
+    }
+    return new KeysetPage<>(content, nextCursor);
+  }
+}
@@ -20,9 +20,15 @@ package org.jhapy.i18n.service;
 
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
+import org.jhapy.i18n.cache.SearchCountCache;
+import org.jhapy.i18n.cache.TranslationCache;
 import org.jhapy.i18n.domain.Message;
 import org.jhapy.i18n.domain.MessageTrl;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.dto.KeysetPage;
+import org.jhapy.i18n.event.TranslationChangePublisher;
 import org.jhapy.i18n.repository.MessageRepository;
+import org.jhapy.i18n.search.TranslationSearchIndexer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -40,11 +46,25 @@ public class MessageServiceImpl implements MessageService {
 
   private final MessageRepository messageRepository;
   private final MessageTrlService messageTrlService;
+  private final TranslationCache<MessageTrl> messageTrlCache;
+  private final TranslationChangePublisher translationChangePublisher;
+  private final TranslationTombstones translationTombstones;
+  private final TranslationSearchIndexer translationSearchIndexer;
+  private final SearchCountCache searchCountCache;
 
   public MessageServiceImpl(MessageRepository messageRepository,
-      MessageTrlService messageTrlService) {
+      MessageTrlService messageTrlService,
+      TranslationCache<MessageTrl> messageTrlCache,
+      TranslationChangePublisher translationChangePublisher,
+      TranslationTombstones translationTombstones,
+      TranslationSearchIndexer translationSearchIndexer, SearchCountCache searchCountCache) {
     this.messageRepository = messageRepository;
     this.messageTrlService = messageTrlService;
+    this.messageTrlCache = messageTrlCache;
+    this.translationChangePublisher = translationChangePublisher;
+    this.translationTombstones = translationTombstones;
+    this.translationSearchIndexer = translationSearchIndexer;
+    this.searchCountCache = searchCountCache;
   }
 
   @Override
@@ -62,7 +82,15 @@ public class MessageServiceImpl implements MessageService {
     if (StringUtils.isBlank(filter)) {
       return messageRepository.findAll(pageable);
     } else {
-      return messageRepository.findAnyMatching(filter, pageable);
+      List<Long> messageIds = translationSearchIndexer.search(TranslationFamily.MESSAGE, filter);
+      Page<Message> page = messageIds == null ? null : TranslationSearchIndexer.getPage(messageIds,
+          pageable, messageRepository::findAllById, messageRepository::findByIdIn);
+      if (page == null) {
+        page = searchCountCache.getPage(TranslationFamily.MESSAGE, filter,
+            messageRepository.findAnyMatching(filter, pageable), pageable,
+            () -> messageRepository.countAnyMatching(filter));
+      }
+      return page;
     }
   }
 
@@ -71,13 +99,41 @@ public class MessageServiceImpl implements MessageService {
     if (StringUtils.isBlank(filter)) {
       return messageRepository.count();
     } else {
-      return messageRepository.countAnyMatching(filter);
+      List<Long> messageIds = translationSearchIndexer.search(TranslationFamily.MESSAGE, filter);
+      // Index counts are not cached : the index is updated shortly after the cache is cleared
+      if (messageIds != null) {
+        return messageIds.size();
+      }
+      return searchCountCache.getCount(TranslationFamily.MESSAGE, filter,
+          () -> messageRepository.countAnyMatching(filter));
     }
   }
 
+  @Override
+  public KeysetPage<Message> findAnyMatchingAfter(String filter, String cursor, Integer size) {
+    String matching = StringUtils.isBlank(filter) ? null : filter;
+    return KeysetCursor.getPage(cursor, size, Message::getCategory, Message::getName,
+        (after, pageable) -> messageRepository
+            .findAnyMatchingUncategorizedAfter(matching, after.getName(), after.getId(), pageable),
+        (after, pageable) -> messageRepository
+            .findAnyMatchingCategorizedAfter(matching, after.getCategory(), after.getName(),
+                after.getId(), pageable));
+  }
+
   @Override
   @Transactional
   public Message save(Message entity) {
+    if (entity.getId() != null) {
+      // The name may have changed, cached translations are keyed by name
+      messageTrlCache.evictAll();
+      translationChangePublisher
+          .parentChanged(TranslationFamily.MESSAGE, entity.getId(), entity.getName());
+      String previousName = messageRepository.findById(entity.getId()).map(Message::getName)
+          .orElse(null);
+      if (previousName != null && !previousName.equals(entity.getName())) {
+        translationTombstones.parentDeleted(TranslationFamily.MESSAGE, previousName);
+      }
+    }
     List<MessageTrl> translations = entity.getTranslations();
     entity = messageRepository.save(entity);
     for (MessageTrl messageTrl : translations) {
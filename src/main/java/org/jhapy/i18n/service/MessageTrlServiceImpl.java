@@ -22,26 +22,45 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
 import org.jhapy.commons.utils.HasLogger;
+import org.jhapy.i18n.cache.MissingTranslationQueue;
+import org.jhapy.i18n.cache.TranslationCache;
+import org.jhapy.i18n.cache.TranslationKey;
 import org.jhapy.i18n.domain.Message;
 import org.jhapy.i18n.domain.MessageTrl;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.dto.TranslationEntry;
+import org.jhapy.i18n.event.TranslationChangePublisher;
+import org.jhapy.i18n.importer.I18NWorkbookReader;
+import org.jhapy.i18n.importer.TranslationImportRow;
 import org.jhapy.i18n.repository.MessageRepository;
 import org.jhapy.i18n.repository.MessageTrlRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 /**
@@ -55,6 +74,20 @@ public class MessageTrlServiceImpl implements MessageTrlService, HasLogger {
 
   private final MessageRepository messageRepository;
   private final MessageTrlRepository messageTrlRepository;
+  private final TranslationCache<MessageTrl> messageTrlCache;
+  private final TranslationChangePublisher translationChangePublisher;
+  private final TranslationStatusUpdater translationStatusUpdater;
+  private final TranslationTombstones translationTombstones;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate requiresNewTransactionTemplate;
+  private final TranslationKeyLocks translationKeyLocks;
+  private final MissingTranslationQueue missingTranslationQueue;
+  private final EntityManager entityManager;
+
+  /**
+   * Maximum number of names in an IN query
+   */
+  private static final int LOOKUP_CHUNK_SIZE = 500;
 
   private boolean hasBootstrapped = false;
 
@@ -64,10 +97,34 @@ public class MessageTrlServiceImpl implements MessageTrlService, HasLogger {
   @Value("${jhapy.bootstrap.i18n.enabled}")
   private Boolean isBootstrapEnabled;
 
+  @Value("${jhapy.i18n.import.batchSize:500}")
+  private int importBatchSize;
+
+  @Value("${jhapy.i18n.missingTranslations.batchSize:500}")
+  private int missingTranslationsBatchSize;
+
   public MessageTrlServiceImpl(MessageRepository messageRepository,
-      MessageTrlRepository messageTrlRepository) {
+      MessageTrlRepository messageTrlRepository,
+      TranslationCache<MessageTrl> messageTrlCache,
+      TranslationChangePublisher translationChangePublisher,
+      TranslationStatusUpdater translationStatusUpdater,
+      TranslationTombstones translationTombstones,
+      TranslationKeyLocks translationKeyLocks,
+      PlatformTransactionManager transactionManager, EntityManager entityManager,
+      @Value("${jhapy.i18n.missingTranslations.maxPending:100000}") int maxPendingTranslations) {
     this.messageRepository = messageRepository;
     this.messageTrlRepository = messageTrlRepository;
+    this.messageTrlCache = messageTrlCache;
+    this.translationChangePublisher = translationChangePublisher;
+    this.translationStatusUpdater = translationStatusUpdater;
+    this.translationTombstones = translationTombstones;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTransactionTemplate
+        .setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.translationKeyLocks = translationKeyLocks;
+    this.missingTranslationQueue = new MissingTranslationQueue(maxPendingTranslations);
+    this.entityManager = entityManager;
   }
 
   @Transactional
@@ -96,14 +153,172 @@ public class MessageTrlServiceImpl implements MessageTrlService, HasLogger {
     }
   }
 
-  @Transactional
+  /**
+   * Served from the lookup cache when possible, the transaction is only opened on a miss. A missing
+   * translation is returned as a transient fallback and created in background.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
   @Override
   public MessageTrl getByNameAndIso3Language(String name, String iso3Language) {
-    String loggerPrefix = getLoggerPrefix("getByNameAndIso3Language");
-
     Assert.notNull(name, "Name mandatory");
     Assert.notNull(iso3Language, "ISO3 language is mandatory");
 
+    MessageTrl messageTrl = messageTrlCache.get(name, iso3Language);
+    if (messageTrl != null) {
+      return messageTrl;
+    }
+
+    long cacheGeneration = messageTrlCache.getGeneration();
+    messageTrl = transactionTemplate
+        .execute(status -> loadOrRegisterMissing(name, iso3Language));
+    if (messageTrl == null) {
+      messageTrl = createNow(name, iso3Language);
+    }
+    messageTrlCache.put(name, iso3Language, messageTrl, cacheGeneration);
+    return messageTrl;
+  }
+
+  /**
+   * Several names variant of {@link #getByNameAndIso3Language(String, String)} : the cache is
+   * swept first, then the misses are loaded with IN queries.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  @Override
+  public Map<String, MessageTrl> getByNamesAndIso3Language(Collection<String> names,
+      String iso3Language) {
+    Assert.notNull(names, "Names mandatory");
+    Assert.notNull(iso3Language, "ISO3 language is mandatory");
+
+    Map<String, MessageTrl> result = new LinkedHashMap<>();
+    List<String> missingNames = new ArrayList<>();
+    for (String name : new LinkedHashSet<>(names)) {
+      MessageTrl messageTrl = messageTrlCache.get(name, iso3Language);
+      result.put(name, messageTrl);
+      if (messageTrl == null) {
+        missingNames.add(name);
+      }
+    }
+    if (missingNames.isEmpty()) {
+      return result;
+    }
+
+    long cacheGeneration = messageTrlCache.getGeneration();
+    Map<String, MessageTrl> loaded = transactionTemplate
+        .execute(status -> loadOrRegisterMissing(missingNames, iso3Language));
+    for (String name : missingNames) {
+      MessageTrl messageTrl = loaded.get(name);
+      if (messageTrl == null) {
+        messageTrl = createNow(name, iso3Language);
+      }
+      messageTrlCache.put(name, iso3Language, messageTrl, cacheGeneration);
+      result.put(name, messageTrl);
+    }
+    return result;
+  }
+
+  /**
+   * The missing translation is not created here but queued, see {@link
+   * #flushMissingTranslations()}. Until then a transient translation is returned, with the value
+   * of the default translation (or the name).
+   *
+   * @return null when the queue is full, the translation has to be created right away
+   */
+  protected MessageTrl loadOrRegisterMissing(String name, String iso3Language) {
+    Optional<MessageTrl> _messageTrl = messageTrlRepository
+        .getByMessageNameAndIso3Language(name, iso3Language);
+    if (_messageTrl.isPresent()) {
+      return _messageTrl.get();
+    }
+
+    if (!missingTranslationQueue.offer(name, iso3Language)) {
+      return null;
+    }
+
+    MessageTrl messageTrl = new MessageTrl();
+    messageTrl.setIso3Language(iso3Language);
+    messageTrl.setValue(name);
+    messageTrl.setIsTranslated(false);
+
+    Optional<Message> _message = messageRepository.getByName(name);
+    if (_message.isPresent()) {
+      messageTrl.setMessage(_message.get());
+      messageTrlRepository.getByMessageAndIsDefault(_message.get(), true)
+          .ifPresent(defaultMessageTrl -> messageTrl.setValue(defaultMessageTrl.getValue()));
+    } else {
+      Message message = new Message();
+      message.setName(name);
+      message.setIsTranslated(false);
+      messageTrl.setMessage(message);
+    }
+    return messageTrl;
+  }
+
+  /**
+   * Several names variant of {@link #loadOrRegisterMissing(String, String)}. The names whose
+   * translation has to be created right away are left out.
+   */
+  protected Map<String, MessageTrl> loadOrRegisterMissing(List<String> names,
+      String iso3Language) {
+    Map<String, MessageTrl> result = new HashMap<>();
+    Map<String, Message> messages = new HashMap<>();
+    Map<String, String> defaultValues = new HashMap<>();
+    for (int fromIndex = 0; fromIndex < names.size(); fromIndex += LOOKUP_CHUNK_SIZE) {
+      List<String> chunk = names
+          .subList(fromIndex, Math.min(fromIndex + LOOKUP_CHUNK_SIZE, names.size()));
+      messageTrlRepository.findByMessageNameInAndIso3Language(chunk, iso3Language)
+          .forEach(messageTrl -> result.put(messageTrl.getMessage().getName(), messageTrl));
+
+      List<String> missingNames = chunk.stream().filter(name -> !result.containsKey(name))
+          .collect(Collectors.toList());
+      if (missingNames.isEmpty()) {
+        continue;
+      }
+      messageRepository.findByNameIn(missingNames)
+          .forEach(message -> messages.put(message.getName(), message));
+      messageTrlRepository.findDefaultsByMessageNameIn(missingNames).forEach(
+          defaultMessageTrl -> defaultValues
+              .put(defaultMessageTrl.getMessage().getName(), defaultMessageTrl.getValue()));
+    }
+
+    for (String name : names) {
+      if (result.containsKey(name) || !missingTranslationQueue.offer(name, iso3Language)) {
+        continue;
+      }
+      MessageTrl messageTrl = new MessageTrl();
+      messageTrl.setIso3Language(iso3Language);
+      messageTrl.setValue(defaultValues.getOrDefault(name, name));
+      messageTrl.setIsTranslated(false);
+      Message message = messages.get(name);
+      if (message == null) {
+        message = new Message();
+        message.setName(name);
+        message.setIsTranslated(false);
+      }
+      messageTrl.setMessage(message);
+      result.put(name, messageTrl);
+    }
+    return result;
+  }
+
+  /**
+   * Create a missing translation under the name lock, in its own transaction. A concurrent writer
+   * not taking the lock (import) may still win the race : its row is returned.
+   */
+  protected MessageTrl createNow(String name, String iso3Language) {
+    try {
+      return translationKeyLocks
+          .callWithLocks(TranslationFamily.MESSAGE, Collections.singleton(name),
+              () -> requiresNewTransactionTemplate
+                  .execute(status -> loadOrCreate(name, iso3Language)));
+    } catch (DataIntegrityViolationException e) {
+      return transactionTemplate.execute(status -> messageTrlRepository
+          .getByMessageNameAndIso3Language(name, iso3Language)).orElseThrow(() -> e);
+    }
+  }
+
+  protected MessageTrl loadOrCreate(String name, String iso3Language) {
+    String loggerPrefix = getLoggerPrefix("getByNameAndIso3Language");
+
     Optional<Message> _message = messageRepository.getByName(name);
     Message message;
     if (!_message.isPresent()) {
@@ -140,6 +355,100 @@ public class MessageTrlServiceImpl implements MessageTrlService, HasLogger {
     }
   }
 
+  /**
+   * Create the queued missing translations (and their messages), by batches, each batch in its own
+   * transaction
+   */
+  @Scheduled(fixedDelayString = "${jhapy.i18n.missingTranslations.flushDelayMillis:1000}")
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void flushMissingTranslations() {
+    String loggerPrefix = getLoggerPrefix("flushMissingTranslations");
+
+    List<TranslationKey> keys;
+    while (!(keys = missingTranslationQueue.poll(missingTranslationsBatchSize)).isEmpty()) {
+      List<TranslationKey> batch = keys;
+      try {
+        createMissingWithLocks(batch);
+        logger().info(loggerPrefix + batch.size() + " missing translations handled");
+      } catch (Throwable t) {
+        logger().error(loggerPrefix + "Something wrong happen : " + t.getMessage(), t);
+      } finally {
+        // Drop the cached fallbacks : the rows now exist, or the keys have to be queued again
+        missingTranslationQueue.done(batch);
+        batch.forEach(key -> messageTrlCache.evict(key.getName(), key.getIso3Language()));
+      }
+    }
+  }
+
+  /**
+   * The names are locked while the batch is created and committed. A writer not taking the locks
+   * (import), or another node when a cluster lock timed out, may still create some of them
+   * meanwhile : the unique constraints reject the batch, which is then retried once and the
+   * re-check skips what already exists.
+   */
+  private void createMissingWithLocks(List<TranslationKey> keys) {
+    String loggerPrefix = getLoggerPrefix("createMissingWithLocks");
+
+    Set<String> names = keys.stream().map(TranslationKey::getName).collect(Collectors.toSet());
+    Runnable createMissing = () -> translationKeyLocks
+        .runWithLocks(TranslationFamily.MESSAGE, names, () -> requiresNewTransactionTemplate
+            .executeWithoutResult(status -> createMissing(keys)));
+    try {
+      createMissing.run();
+    } catch (DataIntegrityViolationException e) {
+      logger().warn(loggerPrefix + "Concurrent creation, retry : " + e.getMessage());
+      createMissing.run();
+    }
+  }
+
+  protected void createMissing(List<TranslationKey> keys) {
+    Set<String> names = keys.stream().map(TranslationKey::getName).collect(Collectors.toSet());
+
+    Map<String, Message> messages = new HashMap<>();
+    messageRepository.findByNameIn(names)
+        .forEach(message -> messages.put(message.getName(), message));
+
+    Map<Long, List<MessageTrl>> messageTrls = new HashMap<>();
+    if (!messages.isEmpty()) {
+      messageTrlRepository.findByMessageIn(messages.values()).forEach(messageTrl -> messageTrls
+          .computeIfAbsent(messageTrl.getMessage().getId(), id -> new ArrayList<>())
+          .add(messageTrl));
+    }
+
+    List<Message> newMessages = new ArrayList<>();
+    for (String name : names) {
+      if (!messages.containsKey(name)) {
+        Message message = new Message();
+        message.setName(name);
+        message.setIsTranslated(false);
+        messages.put(name, message);
+        newMessages.add(message);
+      }
+    }
+    messageRepository.saveAll(newMessages);
+
+    List<MessageTrl> newMessageTrls = new ArrayList<>();
+    for (TranslationKey key : keys) {
+      Message message = messages.get(key.getName());
+      List<MessageTrl> translations = messageTrls
+          .computeIfAbsent(message.getId(), id -> new ArrayList<>());
+      if (translations.stream()
+          .anyMatch(trl -> key.getIso3Language().equals(trl.getIso3Language()))) {
+        continue;
+      }
+      MessageTrl messageTrl = new MessageTrl();
+      messageTrl.setIso3Language(key.getIso3Language());
+      messageTrl.setMessage(message);
+      messageTrl.setValue(translations.stream()
+          .filter(trl -> Boolean.TRUE.equals(trl.getIsDefault())).findFirst()
+          .map(MessageTrl::getValue).orElse(key.getName()));
+      messageTrl.setIsTranslated(false);
+      translations.add(messageTrl);
+      newMessageTrls.add(messageTrl);
+    }
+    messageTrlRepository.saveAll(newMessageTrls);
+  }
+
   @Override
   public List<MessageTrl> getByIso3Language(String iso3Language) {
     Assert.notNull(iso3Language, "ISO3 language is mandatory");
@@ -147,6 +456,13 @@ public class MessageTrlServiceImpl implements MessageTrlService, HasLogger {
     return messageTrlRepository.findByIso3Language(iso3Language);
   }
 
+  @Override
+  public List<TranslationEntry> findEntriesByIso3Language(String iso3Language) {
+    Assert.notNull(iso3Language, "ISO3 language is mandatory");
+
+    return messageTrlRepository.findEntriesByIso3Language(iso3Language);
+  }
+
   @Override
   public List<MessageTrl> saveAll(List<MessageTrl> translations) {
     return messageTrlRepository.saveAll(translations);
@@ -158,24 +474,31 @@ public class MessageTrlServiceImpl implements MessageTrlService, HasLogger {
     messageTrlRepository.deleteAll(messageTrls);
   }
 
-  @Transactional
   @Override
   public void postUpdate(MessageTrl messageTrl) {
-    boolean isAllTranslated = true;
+    onChange(messageTrl, false);
+  }
+
+  @Override
+  public void postRemove(MessageTrl messageTrl) {
+    onChange(messageTrl, true);
+  }
+
+  private void onChange(MessageTrl messageTrl, boolean isDeleted) {
     Message message = messageTrl.getMessage();
-    List<MessageTrl> trls = messageTrl.getMessage().getTranslations();
-    for (MessageTrl trl : trls) {
-      if (!trl.getIsTranslated()) {
-        isAllTranslated = false;
-        break;
-      }
+    if (message == null || messageTrl.getIso3Language() == null) {
+      return;
     }
-    if (isAllTranslated && !message.getIsTranslated()) {
-      message.setIsTranslated(true);
-      messageRepository.save(message);
-    } else if (!isAllTranslated && message.getIsTranslated()) {
-      message.setIsTranslated(false);
-      messageRepository.save(message);
+    messageTrlCache.evict(message.getName(), messageTrl.getIso3Language());
+    translationStatusUpdater.translationChanged(TranslationFamily.MESSAGE, message.getId());
+    if (isDeleted) {
+      translationChangePublisher.translationDeleted(TranslationFamily.MESSAGE, message.getId(),
+          message.getName(), messageTrl.getIso3Language());
+      translationTombstones.translationDeleted(TranslationFamily.MESSAGE, message.getName(),
+          messageTrl.getIso3Language());
+    } else {
+      translationChangePublisher.translationChanged(TranslationFamily.MESSAGE, message.getId(),
+          message.getName(), messageTrl.getIso3Language());
     }
   }
 
@@ -200,109 +523,133 @@ public class MessageTrlServiceImpl implements MessageTrlService, HasLogger {
   @Transactional
   public String importExcelFile(byte[] content) {
     String loggerPrefix = getLoggerPrefix("importExcelFile");
-    try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(content))) {
-      Sheet sheet = workbook.getSheet("Messages");
-      if (sheet == null) {
-        sheet = workbook.getSheet("messages");
-      }
-
-      logger().info(loggerPrefix + sheet.getPhysicalNumberOfRows() + " rows");
+    try {
+      return importRows(I18NWorkbookReader
+          .read(new ByteArrayInputStream(content), I18NWorkbookReader.MESSAGES_SHEET)
+          .getOrDefault(I18NWorkbookReader.MESSAGES_SHEET, Collections.emptyList()));
+    } catch (IOException e) {
+      logger().error(loggerPrefix + "Something wrong happen : " + e.getMessage(), e);
+      return e.getMessage();
+    }
+  }
 
-      Iterator<Row> rowIterator = sheet.rowIterator();
-      int rowIndex = 0;
+  /**
+   * Rows are grouped by message and handled by chunks of {@code importBatchSize} messages : the
+   * existing messages and translations of a chunk are loaded with two IN queries, only the new or
+   * changed entities are saved (JDBC batching), then the persistence context is cleared.
+   */
+  @Transactional
+  @Override
+  public String importRows(List<TranslationImportRow> rows) {
+    return importRows(rows, processedRows -> {
+    });
+  }
 
-      while (rowIterator.hasNext()) {
-        Row row = rowIterator.next();
-        rowIndex++;
-        if (rowIndex == 1) {
-          continue;
-        }
+  @Transactional
+  @Override
+  public String importRows(List<TranslationImportRow> rows, IntConsumer progressListener) {
+    String loggerPrefix = getLoggerPrefix("importRows");
 
-        if (rowIndex % 10 == 0) {
-          logger().info(loggerPrefix + "Handle row " + rowIndex);
-        }
+    logger().info(loggerPrefix + rows.size() + " rows");
 
-        int colIdx = 0;
-        Cell categoryCell = row.getCell(colIdx++);
-        Cell name0Cell = row.getCell(colIdx++);
-        Cell name1Cell = row.getCell(colIdx++);
-        Cell name2Cell = row.getCell(colIdx++);
-        Cell name3Cell = row.getCell(colIdx++);
-        Cell langCell = row.getCell(colIdx++);
-        Cell valueCell = row.getCell(colIdx);
-
-        if (langCell == null) {
-          logger().error(loggerPrefix + "Empty value for language, skip");
+    try {
+      Map<String, List<TranslationImportRow>> rowsByName = new LinkedHashMap<>();
+      for (TranslationImportRow row : rows) {
+        if (row.getIso3Language() == null) {
+          logger().error(loggerPrefix + "Row " + row.getRowNum()
+              + " : Empty value for language, skip");
           continue;
         }
 
-        if (name0Cell == null) {
-          logger().error(loggerPrefix + "Empty value for name, skip");
+        if (row.getName() == null) {
+          logger().error(loggerPrefix + "Row " + row.getRowNum() + " : Empty value for name, skip");
           continue;
         }
+        rowsByName.computeIfAbsent(row.getName(), name -> new ArrayList<>()).add(row);
+      }
 
-        String category = categoryCell == null ? null : categoryCell.getStringCellValue();
+      int skippedRows = rows.size() - rowsByName.values().stream().mapToInt(List::size).sum();
+      if (skippedRows > 0) {
+        progressListener.accept(skippedRows);
+      }
 
-        String name = name0Cell.getStringCellValue();
-        if (name1Cell != null) {
-          name += "." + name1Cell.getStringCellValue();
-        }
-        if (name2Cell != null) {
-          name += "." + name2Cell.getStringCellValue();
-        }
-        if (name3Cell != null) {
-          name += "." + name3Cell.getStringCellValue();
-        }
+      List<String> names = new ArrayList<>(rowsByName.keySet());
+      for (int fromIndex = 0; fromIndex < names.size(); fromIndex += importBatchSize) {
+        List<String> chunk = names
+            .subList(fromIndex, Math.min(fromIndex + importBatchSize, names.size()));
+        importChunk(chunk, rowsByName);
+        entityManager.flush();
+        entityManager.clear();
+        progressListener.accept(chunk.stream().mapToInt(name -> rowsByName.get(name).size()).sum());
+
+        logger().info(loggerPrefix + "Handle " + (fromIndex + chunk.size()) + "/" + names.size()
+            + " messages");
+      }
+    } catch (Throwable e) {
+      logger().error(loggerPrefix + "Something wrong happen : " + e.getMessage(), e);
+      return e.getMessage();
+    }
 
-        String language = langCell.getStringCellValue();
+    logger().info(loggerPrefix + "Done");
 
-        Optional<Message> _message = messageRepository.getByName(name);
-        Message message;
-        if (!_message.isPresent()) {
-          message = new Message();
-          message.setName(name);
-          message.setCategory(category);
-          message.setIsTranslated(true);
-          message = messageRepository.save(message);
-        } else {
-          message = _message.get();
+    hasBootstrapped = true;
+    return null;
+  }
+
+  private void importChunk(List<String> names,
+      Map<String, List<TranslationImportRow>> rowsByName) {
+    Map<String, Message> messages = new HashMap<>();
+    messageRepository.findByNameIn(names)
+        .forEach(message -> messages.put(message.getName(), message));
+
+    Map<Long, Map<String, MessageTrl>> messageTrls = new HashMap<>();
+    if (!messages.isEmpty()) {
+      messageTrlRepository.findByMessageIn(messages.values()).forEach(messageTrl -> messageTrls
+          .computeIfAbsent(messageTrl.getMessage().getId(), id -> new HashMap<>())
+          .put(messageTrl.getIso3Language(), messageTrl));
+    }
+
+    List<Message> messagesToSave = new ArrayList<>();
+    List<MessageTrl> messageTrlsToSave = new ArrayList<>();
+    for (String name : names) {
+      List<TranslationImportRow> messageRows = rowsByName.get(name);
+      String category = messageRows.get(messageRows.size() - 1).getCategory();
+
+      Message message = messages.get(name);
+      Map<String, MessageTrl> translations;
+      if (message == null) {
+        message = new Message();
+        message.setName(name);
+        message.setCategory(category);
+        message.setIsTranslated(true);
+        messagesToSave.add(message);
+        translations = new HashMap<>();
+      } else {
+        // isTranslated is recomputed at commit by the TranslationStatusUpdater
+        if (!Objects.equals(category, message.getCategory())) {
           message.setCategory(category);
-          message.setIsTranslated(true);
-          message = messageRepository.save(message);
+          messagesToSave.add(message);
         }
+        translations = messageTrls.getOrDefault(message.getId(), new HashMap<>());
+      }
 
-        Optional<MessageTrl> _messageTrl = messageTrlRepository
-            .getByMessageAndIso3Language(message, language);
-        MessageTrl messageTrl;
-        if (!_messageTrl.isPresent()) {
+      for (TranslationImportRow row : messageRows) {
+        MessageTrl messageTrl = translations.get(row.getIso3Language());
+        if (messageTrl == null) {
           messageTrl = new MessageTrl();
-          messageTrl.setValue(valueCell == null ? "" : valueCell.getStringCellValue());
-          messageTrl.setIso3Language(language);
+          messageTrl.setIso3Language(row.getIso3Language());
           messageTrl.setMessage(message);
-          messageTrl.setIsTranslated(true);
-
-          messageTrlRepository.save(messageTrl);
-        } else {
-          messageTrl = _messageTrl.get();
-          if (!messageTrl.getIsTranslated()) {
-            messageTrl.setValue(valueCell == null ? "" : valueCell.getStringCellValue());
-            messageTrl.setIso3Language(language);
-            messageTrl.setMessage(message);
-            messageTrl.setIsTranslated(true);
-
-            messageTrlRepository.save(messageTrl);
-          }
+          translations.put(row.getIso3Language(), messageTrl);
+        } else if (Boolean.TRUE.equals(messageTrl.getIsTranslated())) {
+          continue;
         }
+        messageTrl.setValue(row.getValue() == null ? "" : row.getValue());
+        messageTrl.setIsTranslated(true);
+        messageTrlsToSave.add(messageTrl);
       }
-    } catch (IOException e) {
-      logger().error(loggerPrefix + "Something wrong happen : " + e.getMessage(), e);
-      return e.getMessage();
     }
 
-    logger().info(loggerPrefix + "Done");
-
-    hasBootstrapped = true;
-
-    return null;
+    messageRepository.saveAll(messagesToSave);
+    messageTrlRepository.saveAll(messageTrlsToSave);
   }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.jhapy.i18n.utils.TransactionScopedCollector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cluster wide registry of the open transactions writing translations, with the time of their
+ * first write.
+ * <p>
+ * A row is stamped as modified when it is written but only becomes visible when its transaction
+ * commits, minutes later for a large import. The changesSince cursor must not move past the first
+ * write of a transaction still open, or the rows it commits later would never be sent.
+ * <p>
+ * Entries of a node that died before completing its transactions expire after {@code
+ * jhapy.i18n.changes.openWriteTtlSeconds}.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class OpenTranslationWrites {
+
+  public static final String OPEN_WRITES_MAP = "i18nOpenWrites";
+
+  private final HazelcastInstance hazelcastInstance;
+  /**
+   * Key of the open write of the current transaction, deleted once it completes : after the commit
+   * callbacks, which may still write in a new transaction
+   */
+  private final TransactionScopedCollector<String> openWrite;
+
+  @Value("${jhapy.i18n.changes.openWriteTtlSeconds:7200}")
+  private long openWriteTtlSeconds;
+
+  public OpenTranslationWrites(HazelcastInstance hazelcastInstance) {
+    this.hazelcastInstance = hazelcastInstance;
+    this.openWrite = TransactionScopedCollector.afterCompletion(keys -> keys.forEach(
+        key -> getOpenWrites().delete(key)));
+  }
+
+  /**
+   * Called before a translation, a parent or a tombstone is written. Registers the current
+   * transaction on its first write, until it completes.
+   */
+  public void writeStarted() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || openWrite.isCollecting()) {
+      return;
+    }
+    String key = UUID.randomUUID().toString();
+    getOpenWrites().put(key, System.currentTimeMillis(), openWriteTtlSeconds, TimeUnit.SECONDS);
+    openWrite.add(key);
+  }
+
+  /**
+   * @return the first write of the oldest open transaction, null when none is open
+   */
+  public Instant getOldestStart() {
+    Long oldest = null;
+    for (Long start : getOpenWrites().values()) {
+      if (oldest == null || start < oldest) {
+        oldest = start;
+      }
+    }
+    return oldest == null ? null : Instant.ofEpochMilli(oldest);
+  }
+
+  /**
+   * Point up to which every change is committed and visible : the first write of the oldest open
+   * transaction, or now, minus the given margin (clock skew, time between a row stamp and the
+   * registration of its transaction)
+   */
+  public Instant getCommittedUntil(long marginSeconds) {
+    Instant now = Instant.now();
+    Instant oldestStart = getOldestStart();
+    return (oldestStart != null && oldestStart.isBefore(now) ? oldestStart : now)
+        .minusSeconds(marginSeconds);
+  }
+
+  private IMap<String, Long> getOpenWrites() {
+    return hazelcastInstance.getMap(OPEN_WRITES_MAP);
+  }
+}
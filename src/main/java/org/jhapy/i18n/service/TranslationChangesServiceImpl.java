@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.jhapy.commons.utils.HasLogger;
+import org.jhapy.i18n.cache.CatalogueVersion;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.domain.TranslationTombstone;
+import org.jhapy.i18n.dto.I18NBundle;
+import org.jhapy.i18n.dto.TranslationChanges;
+import org.jhapy.i18n.dto.TranslationEntry;
+import org.jhapy.i18n.dto.TranslationValue;
+import org.jhapy.i18n.repository.ActionTrlRepository;
+import org.jhapy.i18n.repository.ElementTrlRepository;
+import org.jhapy.i18n.repository.MessageTrlRepository;
+import org.jhapy.i18n.repository.TranslationTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+/**
+ * Delta sync, based on the modification date of the translations and of their parent, and on the
+ * tombstones of the deleted translations.
+ * <p>
+ * Modification dates are stamped when written, not when committed : the next cursor is held
+ * behind the open write transactions tracked by {@link OpenTranslationWrites}.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+@Transactional(readOnly = true)
+public class TranslationChangesServiceImpl implements TranslationChangesService, HasLogger {
+
+  private final ElementTrlRepository elementTrlRepository;
+  private final ActionTrlRepository actionTrlRepository;
+  private final MessageTrlRepository messageTrlRepository;
+  private final TranslationTombstoneRepository translationTombstoneRepository;
+  private final I18nService i18nService;
+  private final CatalogueVersion catalogueVersion;
+  private final OpenTranslationWrites openTranslationWrites;
+
+  /**
+   * Margin kept behind the oldest open write transaction : clock skew between the nodes and the
+   * time between a row stamp and the registration of its transaction
+   */
+  @Value("${jhapy.i18n.changes.overlapSeconds:60}")
+  private long overlapSeconds;
+
+  @Value("${jhapy.i18n.changes.tombstoneRetentionDays:30}")
+  private long tombstoneRetentionDays;
+
+  public TranslationChangesServiceImpl(ElementTrlRepository elementTrlRepository,
+      ActionTrlRepository actionTrlRepository,
+      MessageTrlRepository messageTrlRepository,
+      TranslationTombstoneRepository translationTombstoneRepository,
+      I18nService i18nService,
+      CatalogueVersion catalogueVersion,
+      OpenTranslationWrites openTranslationWrites) {
+    this.elementTrlRepository = elementTrlRepository;
+    this.actionTrlRepository = actionTrlRepository;
+    this.messageTrlRepository = messageTrlRepository;
+    this.translationTombstoneRepository = translationTombstoneRepository;
+    this.i18nService = i18nService;
+    this.catalogueVersion = catalogueVersion;
+    this.openTranslationWrites = openTranslationWrites;
+  }
+
+  @Override
+  public TranslationChanges getChangesSince(String iso3Language, Instant since) {
+    Assert.notNull(iso3Language, "ISO3 language is mandatory");
+
+    Instant now = Instant.now();
+    // Rows written by a transaction still open (a long import...) are stamped before it commits :
+    // the cursor stays before its first write so they are sent once committed
+    Instant next = openTranslationWrites.getCommittedUntil(overlapSeconds);
+
+    TranslationChanges changes = new TranslationChanges();
+    changes.setIso3Language(iso3Language);
+    changes.setSince(since);
+    changes.setNext(since != null && since.isAfter(next) ? since : next);
+
+    if (since == null || since.isBefore(now.minus(Duration.ofDays(tombstoneRetentionDays)))) {
+      I18NBundle bundle = i18nService.getBundle(iso3Language);
+      changes.setVersion(bundle.getVersion());
+      changes.setFullResync(true);
+      changes.setElements(bundle.getElements());
+      changes.setActions(bundle.getActions());
+      changes.setMessages(bundle.getMessages());
+      changes.setDeletedElements(Collections.emptySet());
+      changes.setDeletedActions(Collections.emptySet());
+      changes.setDeletedMessages(Collections.emptySet());
+      return changes;
+    }
+
+    // Read before the changes, so the version is never newer than the content
+    changes.setVersion(catalogueVersion.getVersion(iso3Language));
+    changes.setElements(toValues(
+        elementTrlRepository.findEntriesByIso3LanguageModifiedAfter(iso3Language, since),
+        elementTrlRepository.findEntriesByIso3LanguageWithElementModifiedAfter(iso3Language,
+            since)));
+    changes.setActions(toValues(
+        actionTrlRepository.findEntriesByIso3LanguageModifiedAfter(iso3Language, since),
+        actionTrlRepository.findEntriesByIso3LanguageWithActionModifiedAfter(iso3Language,
+            since)));
+    changes.setMessages(toValues(
+        messageTrlRepository.findEntriesByIso3LanguageModifiedAfter(iso3Language, since),
+        messageTrlRepository.findEntriesByIso3LanguageWithMessageModifiedAfter(iso3Language,
+            since)));
+
+    Map<TranslationFamily, Set<String>> deletedNames = new EnumMap<>(TranslationFamily.class);
+    for (TranslationFamily family : TranslationFamily.values()) {
+      deletedNames.put(family, new TreeSet<>());
+    }
+    for (TranslationTombstone tombstone : translationTombstoneRepository
+        .findCreatedAfter(iso3Language, since)) {
+      deletedNames.get(tombstone.getFamily()).add(tombstone.getName());
+    }
+    // Deleted then created again
+    deletedNames.get(TranslationFamily.ELEMENT).removeAll(changes.getElements().keySet());
+    deletedNames.get(TranslationFamily.ACTION).removeAll(changes.getActions().keySet());
+    deletedNames.get(TranslationFamily.MESSAGE).removeAll(changes.getMessages().keySet());
+    changes.setDeletedElements(deletedNames.get(TranslationFamily.ELEMENT));
+    changes.setDeletedActions(deletedNames.get(TranslationFamily.ACTION));
+    changes.setDeletedMessages(deletedNames.get(TranslationFamily.MESSAGE));
+
+    return changes;
+  }
+
+  @Scheduled(cron = "${jhapy.i18n.changes.tombstonePurgeCron:0 0 3 * * *}")
+  @Transactional
+  public void purgeTombstones() {
+    String loggerPrefix = getLoggerPrefix("purgeTombstones");
+
+    int purged = translationTombstoneRepository
+        .deleteCreatedBefore(Instant.now().minus(Duration.ofDays(tombstoneRetentionDays)));
+    logger().info(loggerPrefix + purged + " tombstones purged");
+  }
+
+  private static Map<String, TranslationValue> toValues(List<TranslationEntry> modified,
+      List<TranslationEntry> parentModified) {
+    Map<String, TranslationValue> values = new HashMap<>();
+    for (TranslationEntry entry : modified) {
+      values.put(entry.getName(), new TranslationValue(entry.getValue(), entry.getTooltip()));
+    }
+    for (TranslationEntry entry : parentModified) {
+      values.put(entry.getName(), new TranslationValue(entry.getValue(), entry.getTooltip()));
+    }
+    return values;
+  }
+}
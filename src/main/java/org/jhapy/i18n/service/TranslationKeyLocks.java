@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.jhapy.commons.utils.HasLogger;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Striped locks on the parent name (Element, Action or Message), used around the creation of
+ * missing translations so a new name is created once.
+ * <p>
+ * A name maps to one of {@link #STRIPES} stripes per family. A stripe is locked in the JVM first,
+ * then in the cluster through a Hazelcast map lock. Stripes are always acquired in ascending order,
+ * so locking several names cannot deadlock. When the cluster lock cannot be acquired in time, the
+ * action runs anyway : a duplicate parent (unique name) or translation (unique parent and
+ * language) is then rejected by the database, and the caller reads the existing row or retries.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class TranslationKeyLocks implements HasLogger {
+
+  public static final String KEY_LOCKS_MAP = "i18nKeyLocks";
+
+  private static final int STRIPES = 64;
+
+  private final HazelcastInstance hazelcastInstance;
+  private final Map<TranslationFamily, ReentrantLock[]> localLocks = new EnumMap<>(
+      TranslationFamily.class);
+
+  @Value("${jhapy.i18n.keyLocks.waitSeconds:10}")
+  private long waitSeconds;
+
+  @Value("${jhapy.i18n.keyLocks.leaseSeconds:60}")
+  private long leaseSeconds;
+
+  public TranslationKeyLocks(HazelcastInstance hazelcastInstance) {
+    this.hazelcastInstance = hazelcastInstance;
+    for (TranslationFamily family : TranslationFamily.values()) {
+      ReentrantLock[] locks = new ReentrantLock[STRIPES];
+      for (int i = 0; i < STRIPES; i++) {
+        locks[i] = new ReentrantLock();
+      }
+      localLocks.put(family, locks);
+    }
+  }
+
+  /**
+   * Run the action holding the locks of the given names. The action must commit its own
+   * transaction, so the next lock owner sees the created rows.
+   */
+  public <T> T callWithLocks(TranslationFamily family, Collection<String> names,
+      Supplier<T> action) {
+    String loggerPrefix = getLoggerPrefix("callWithLocks", family);
+
+    int[] stripes = names.stream().mapToInt(name -> Math.floorMod(name.hashCode(), STRIPES))
+        .distinct().sorted().toArray();
+    IMap<String, Boolean> clusterLocks = hazelcastInstance.getMap(KEY_LOCKS_MAP);
+
+    Deque<ReentrantLock> lockedLocal = new ArrayDeque<>();
+    Deque<String> lockedCluster = new ArrayDeque<>();
+    try {
+      for (int stripe : stripes) {
+        ReentrantLock localLock = localLocks.get(family)[stripe];
+        localLock.lockInterruptibly();
+        lockedLocal.push(localLock);
+
+        String clusterKey = family.name() + ":" + stripe;
+        if (clusterLocks.tryLock(clusterKey, waitSeconds, TimeUnit.SECONDS, leaseSeconds,
+            TimeUnit.SECONDS)) {
+          lockedCluster.push(clusterKey);
+        } else {
+          logger().warn(loggerPrefix + "Cluster lock '" + clusterKey
+              + "' not acquired, continue without it");
+        }
+      }
+      return action.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a key lock", e);
+    } finally {
+      while (!lockedCluster.isEmpty()) {
+        String clusterKey = lockedCluster.pop();
+        try {
+          clusterLocks.unlock(clusterKey);
+        } catch (IllegalMonitorStateException e) {
+          logger().warn(loggerPrefix + "Cluster lock '" + clusterKey + "' lease expired");
+        }
+      }
+      while (!lockedLocal.isEmpty()) {
+        lockedLocal.pop().unlock();
+      }
+    }
+  }
+
+  public void runWithLocks(TranslationFamily family, Collection<String> names, Runnable action) {
+    callWithLocks(family, names, () -> {
+      action.run();
+      return null;
+    });
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jhapy.i18n.service;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import javax.persistence.EntityManager;
+import org.jhapy.i18n.domain.Action;
+import org.jhapy.i18n.domain.Element;
+import org.jhapy.i18n.domain.Message;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.repository.ActionRepository;
+import org.jhapy.i18n.repository.ElementRepository;
+import org.jhapy.i18n.repository.MessageRepository;
+import org.jhapy.i18n.utils.TransactionScopedCollector;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Maintains the isTranslated flag of Element, Action and Message.
+ * <p>
+ * The parents whose translations changed are collected during the transaction, and their flag is
+ * recomputed once, just before the commit. Changes made outside of a transaction are applied right
+ * away. When the changes are only flushed by the commit itself, it is too late to join the
+ * transaction : the flags are then recomputed right after the commit, in a new transaction.
+ * <p>
+ * The flag is computed in the database with an EXISTS on the untranslated translations, only the
+ * parents whose flag actually changes are loaded and saved.
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class TranslationStatusUpdater {
+
+  private static final int CHUNK_SIZE = 500;
+
+  private final ElementRepository elementRepository;
+  private final ActionRepository actionRepository;
+  private final MessageRepository messageRepository;
+  private final TransactionScopedCollector<Entry<TranslationFamily, Long>> pendingParents;
+
+  public TranslationStatusUpdater(ElementRepository elementRepository,
+      ActionRepository actionRepository, MessageRepository messageRepository,
+      EntityManager entityManager, PlatformTransactionManager transactionManager) {
+    this.elementRepository = elementRepository;
+    this.actionRepository = actionRepository;
+    this.messageRepository = messageRepository;
+    this.pendingParents = TransactionScopedCollector
+        .beforeCommit(entityManager, transactionManager, this::updateParents);
+  }
+
+  public void translationChanged(TranslationFamily family, Long parentId) {
+    if (parentId == null) {
+      return;
+    }
+    if (!pendingParents.add(new SimpleImmutableEntry<>(family, parentId))) {
+      update(family, Collections.singleton(parentId));
+    }
+  }
+
+  /**
+   * Saving a parent does not touch its translations : updating does not collect more parents
+   */
+  private void updateParents(List<Entry<TranslationFamily, Long>> parents) {
+    Map<TranslationFamily, Set<Long>> parentIds = new EnumMap<>(TranslationFamily.class);
+    for (Entry<TranslationFamily, Long> parent : parents) {
+      parentIds.computeIfAbsent(parent.getKey(), f -> new HashSet<>()).add(parent.getValue());
+    }
+    parentIds.forEach(this::update);
+  }
+
+  protected void update(TranslationFamily family, Set<Long> parentIds) {
+    List<Long> ids = new ArrayList<>(parentIds);
+    for (int fromIndex = 0; fromIndex < ids.size(); fromIndex += CHUNK_SIZE) {
+      List<Long> chunk = ids.subList(fromIndex, Math.min(fromIndex + CHUNK_SIZE, ids.size()));
+      switch (family) {
+        case ELEMENT:
+          updateElements(chunk);
+          break;
+        case ACTION:
+          updateActions(chunk);
+          break;
+        case MESSAGE:
+          updateMessages(chunk);
+          break;
+      }
+    }
+  }
+
+  private void updateElements(Collection<Long> elementIds) {
+    for (Element element : elementRepository.findToMarkAsUntranslated(elementIds)) {
+      element.setIsTranslated(false);
+      elementRepository.save(element);
+    }
+    for (Element element : elementRepository.findToMarkAsTranslated(elementIds)) {
+      element.setIsTranslated(true);
+      elementRepository.save(element);
+    }
+  }
+
+  private void updateActions(Collection<Long> actionIds) {
+    for (Action action : actionRepository.findToMarkAsUntranslated(actionIds)) {
+      action.setIsTranslated(false);
+      actionRepository.save(action);
+    }
+    for (Action action : actionRepository.findToMarkAsTranslated(actionIds)) {
+      action.setIsTranslated(true);
+      actionRepository.save(action);
+    }
+  }
+
+  private void updateMessages(Collection<Long> messageIds) {
+    for (Message message : messageRepository.findToMarkAsUntranslated(messageIds)) {
+      message.setIsTranslated(false);
+      messageRepository.save(message);
+    }
+    for (Message message : messageRepository.findToMarkAsTranslated(messageIds)) {
+      message.setIsTranslated(true);
+      messageRepository.save(message);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.service;
+
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.jhapy.i18n.domain.TranslationTombstone;
+import org.jhapy.i18n.repository.TranslationTombstoneRepository;
+import org.jhapy.i18n.utils.TransactionScopedCollector;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Records the tombstones of the deleted translations.
+ * <p>
+ * Deletions are reported by the translation listeners during the flush, where nothing can be
+ * persisted. They are collected during the transaction and saved just before the commit, or right
+ * after it, in a new transaction, when the deletions were only flushed by the commit (see {@link
+ * TranslationStatusUpdater}).
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class TranslationTombstones {
+
+  private final TranslationTombstoneRepository translationTombstoneRepository;
+  private final TransactionTemplate requiresNewTransactionTemplate;
+  private final TransactionScopedCollector<TranslationTombstone> pendingTombstones;
+
+  public TranslationTombstones(TranslationTombstoneRepository translationTombstoneRepository,
+      EntityManager entityManager, PlatformTransactionManager transactionManager) {
+    this.translationTombstoneRepository = translationTombstoneRepository;
+    this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTransactionTemplate
+        .setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.pendingTombstones = TransactionScopedCollector
+        .beforeCommit(entityManager, transactionManager, this::save);
+  }
+
+  public void translationDeleted(TranslationFamily family, String name, String iso3Language) {
+    TranslationTombstone tombstone = new TranslationTombstone(family, name, iso3Language);
+    if (!pendingTombstones.add(tombstone)) {
+      requiresNewTransactionTemplate
+          .executeWithoutResult(status -> save(Collections.singletonList(tombstone)));
+    }
+  }
+
+  /**
+   * Every language of the parent is deleted : the parent has been renamed
+   */
+  public void parentDeleted(TranslationFamily family, String name) {
+    translationDeleted(family, name, null);
+  }
+
+  private void save(List<TranslationTombstone> tombstones) {
+    translationTombstoneRepository.saveAll(tombstones);
+  }
+}
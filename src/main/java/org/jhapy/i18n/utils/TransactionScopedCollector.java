@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.persistence.EntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Items collected during the current transaction, handled once by the transaction completion.
+ * <p>
+ * The items of a transaction are kept in a synchronization bound to the collector. The binding
+ * follows the transaction suspension : the items added in a nested REQUIRES_NEW transaction are
+ * handled with that transaction, not with the suspended one.
+ * <p>
+ * The handler runs at one of these points :
+ * <ul>
+ * <li>{@link #beforeCommit} : in the transaction, after a flush, as the entity listeners run
+ * during the flush and may add items. Items added while handling are handled in turn. Items added
+ * by the flush of the commit itself come too late to join the transaction : they are handled right
+ * after the commit, in a new transaction.</li>
+ * <li>{@link #afterCommit} : once committed, never when rolled back.</li>
+ * <li>{@link #afterCompletion} : once committed or rolled back.</li>
+ * </ul>
+ *
+ * @param <T> Item type
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TransactionScopedCollector<T> {
+
+  private enum Phase {
+    BEFORE_COMMIT, AFTER_COMMIT, AFTER_COMPLETION
+  }
+
+  private final Phase phase;
+  private final Consumer<List<T>> handler;
+  private final EntityManager entityManager;
+  private final TransactionTemplate requiresNewTransactionTemplate;
+
+  private TransactionScopedCollector(Phase phase, Consumer<List<T>> handler,
+      EntityManager entityManager, PlatformTransactionManager transactionManager) {
+    this.phase = phase;
+    this.handler = handler;
+    this.entityManager = entityManager;
+    if (transactionManager != null) {
+      this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+      this.requiresNewTransactionTemplate
+          .setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    } else {
+      this.requiresNewTransactionTemplate = null;
+    }
+  }
+
+  public static <T> TransactionScopedCollector<T> beforeCommit(EntityManager entityManager,
+      PlatformTransactionManager transactionManager, Consumer<List<T>> handler) {
+    return new TransactionScopedCollector<>(Phase.BEFORE_COMMIT, handler, entityManager,
+        transactionManager);
+  }
+
+  public static <T> TransactionScopedCollector<T> afterCommit(Consumer<List<T>> handler) {
+    return new TransactionScopedCollector<>(Phase.AFTER_COMMIT, handler, null, null);
+  }
+
+  public static <T> TransactionScopedCollector<T> afterCompletion(Consumer<List<T>> handler) {
+    return new TransactionScopedCollector<>(Phase.AFTER_COMPLETION, handler, null, null);
+  }
+
+  /**
+   * @return false when no transaction synchronization is active : the item is not collected and
+   * the caller has to handle it right away
+   */
+  public boolean add(T item) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return false;
+    }
+    @SuppressWarnings("unchecked")
+    PendingItems pendingItems = (PendingItems) TransactionSynchronizationManager.getResource(this);
+    if (pendingItems == null) {
+      pendingItems = new PendingItems();
+      TransactionSynchronizationManager.bindResource(this, pendingItems);
+      TransactionSynchronizationManager.registerSynchronization(pendingItems);
+    }
+    pendingItems.items.add(item);
+    return true;
+  }
+
+  /**
+   * @return whether items are collected for the current transaction
+   */
+  public boolean isCollecting() {
+    return TransactionSynchronizationManager.hasResource(this);
+  }
+
+  private class PendingItems extends TransactionSynchronizationAdapter {
+
+    private final List<T> items = new ArrayList<>();
+
+    @Override
+    public void suspend() {
+      TransactionSynchronizationManager.unbindResourceIfPossible(TransactionScopedCollector.this);
+    }
+
+    @Override
+    public void resume() {
+      TransactionSynchronizationManager.bindResource(TransactionScopedCollector.this, this);
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      if (phase != Phase.BEFORE_COMMIT || readOnly) {
+        return;
+      }
+      entityManager.flush();
+      while (!items.isEmpty()) {
+        handle();
+        entityManager.flush();
+      }
+    }
+
+    @Override
+    public void afterCommit() {
+      if (phase == Phase.BEFORE_COMMIT && !items.isEmpty()) {
+        // Collected while the commit flushed the session
+        requiresNewTransactionTemplate.executeWithoutResult(status -> handle());
+      } else if (phase == Phase.AFTER_COMMIT) {
+        handle();
+      }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(TransactionScopedCollector.this);
+      if (phase == Phase.AFTER_COMPLETION) {
+        handle();
+      }
+    }
+
+    private void handle() {
+      if (items.isEmpty()) {
+        return;
+      }
+      List<T> toHandle = new ArrayList<>(items);
+      items.clear();
+      handler.accept(toHandle);
+    }
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2020-2020 the original author or authors from the JHapy project.
+ *
+ * This file is part of the JHapy project, see https://www.jhapy.org/ for more information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jhapy.i18n.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.jms.Connection;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.jhapy.i18n.cache.CatalogueVersion;
+import org.jhapy.i18n.cache.TranslationCache;
+import org.jhapy.i18n.config.JmsConfiguration;
+import org.jhapy.i18n.domain.ActionTrl;
+import org.jhapy.i18n.domain.ElementTrl;
+import org.jhapy.i18n.domain.MessageTrl;
+import org.jhapy.i18n.domain.TranslationFamily;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.listener.SimpleMessageListenerContainer;
+import org.springframework.jms.listener.adapter.MessageListenerAdapter;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Round trip of the translation changes between two nodes, on an embedded (vm://) broker
+ *
+ * @author jHapy Lead Dev.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class TranslationChangeBroadcasterTest {
+
+  private static final String TOPIC = "i18n.translationChanges.test";
+  private static final long TIMEOUT_MILLIS = 5000;
+
+  private final MessageConverter converter =
+      JmsConfiguration.createTranslationChangesMessageConverter();
+
+  private ActiveMQConnectionFactory connectionFactory;
+  private Connection connection;
+  private MessageConsumer topicConsumer;
+  private SimpleMessageListenerContainer nodeBContainer;
+
+  private Node nodeA;
+  private Node nodeB;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    connectionFactory = new ActiveMQConnectionFactory(
+        "vm://i18n-test?broker.persistent=false&broker.useJmx=false");
+    // Keeps the embedded broker up until the end of the test
+    connection = connectionFactory.createConnection();
+    connection.start();
+    Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+    topicConsumer = session.createConsumer(session.createTopic(TOPIC));
+
+    nodeA = new Node();
+    nodeB = new Node();
+
+    MessageListenerAdapter listener = new MessageListenerAdapter(nodeB.broadcaster);
+    listener.setDefaultListenerMethod("onTranslationChangesMessage");
+    listener.setMessageConverter(converter);
+    nodeBContainer = new SimpleMessageListenerContainer();
+    nodeBContainer.setConnectionFactory(connectionFactory);
+    nodeBContainer.setPubSubDomain(true);
+    nodeBContainer.setDestinationName(TOPIC);
+    nodeBContainer.setMessageListener(listener);
+    nodeBContainer.afterPropertiesSet();
+    nodeBContainer.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    nodeBContainer.shutdown();
+    nodeA.broadcaster.destroy();
+    nodeB.broadcaster.destroy();
+    connection.close();
+  }
+
+  @Test
+  void changesAreSentToTheOtherNodes() throws Exception {
+    TranslationChange change = new TranslationChange(TranslationFamily.ELEMENT, 1L, "hello",
+        "eng", false);
+    nodeA.elementTrlCache.put("hello", "eng", new ElementTrl(),
+        nodeA.elementTrlCache.getGeneration());
+    nodeB.elementTrlCache.put("hello", "eng", new ElementTrl(),
+        nodeB.elementTrlCache.getGeneration());
+
+    nodeA.broadcaster.onTranslationsChanged(
+        new TranslationsChangedEvent(Collections.singletonList(change)));
+    nodeA.broadcaster.flush();
+
+    // JSON with a type id, readable by the other services
+    TextMessage sent = (TextMessage) topicConsumer.receive(TIMEOUT_MILLIS);
+    assertThat(sent).isNotNull();
+    assertThat(sent.getStringProperty("_type"))
+        .isEqualTo(JmsConfiguration.TRANSLATION_CHANGES_TYPE_ID);
+    assertThat(sent.getText()).contains("\"name\":\"hello\"");
+    TranslationChangesMessage message = (TranslationChangesMessage) converter.fromMessage(sent);
+    assertThat(message.getChanges()).containsExactly(change);
+    assertThat(message.getVersions()).containsEntry("eng", 42L);
+
+    // Evicted and published again as a remote event on the other node
+    TranslationsChangedEvent received = nodeB.awaitEvent();
+    assertThat(received.isRemote()).isTrue();
+    assertThat(received.getChanges()).containsExactly(change);
+    assertThat(nodeB.elementTrlCache.get("hello", "eng")).isNull();
+
+    // Ignored by the sending node
+    nodeA.broadcaster.onTranslationChangesMessage(message);
+    assertThat(nodeA.events).isEmpty();
+    assertThat(nodeA.elementTrlCache.get("hello", "eng")).isNotNull();
+  }
+
+  @Test
+  void remoteChangesAreNotSentAgain() throws Exception {
+    TranslationChange change = new TranslationChange(TranslationFamily.MESSAGE, 2L, "welcome",
+        "fra", false);
+
+    nodeB.broadcaster.onTranslationsChanged(
+        new TranslationsChangedEvent(Collections.singletonList(change), true));
+    nodeB.broadcaster.flush();
+
+    assertThat(topicConsumer.receive(500)).isNull();
+  }
+
+  @Test
+  void parentChangeEvictsEveryLanguage() {
+    nodeB.messageTrlCache.put("welcome", "eng", new MessageTrl(),
+        nodeB.messageTrlCache.getGeneration());
+    nodeB.messageTrlCache.put("goodbye", "fra", new MessageTrl(),
+        nodeB.messageTrlCache.getGeneration());
+
+    nodeB.broadcaster.onTranslationChangesMessage(new TranslationChangesMessage("other-node",
+        Collections.emptyMap(), Collections.singletonList(
+        new TranslationChange(TranslationFamily.MESSAGE, 2L, "welcome", null, false))));
+
+    assertThat(nodeB.messageTrlCache.size()).isZero();
+    assertThat(nodeB.events).hasSize(1);
+  }
+
+  /**
+   * A node of the cluster : its broadcaster, caches and published events
+   */
+  private class Node {
+
+    private final TranslationCache<ElementTrl> elementTrlCache =
+        new TranslationCache<>("elementTrl", 3600, 100);
+    private final TranslationCache<ActionTrl> actionTrlCache =
+        new TranslationCache<>("actionTrl", 3600, 100);
+    private final TranslationCache<MessageTrl> messageTrlCache =
+        new TranslationCache<>("messageTrl", 3600, 100);
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final TranslationChangeBroadcaster broadcaster;
+
+    private Node() {
+      CatalogueVersion catalogueVersion = mock(CatalogueVersion.class);
+      when(catalogueVersion.getVersion("eng")).thenReturn(42L);
+      broadcaster = new TranslationChangeBroadcaster(connectionFactory, catalogueVersion,
+          events::add, elementTrlCache, actionTrlCache, messageTrlCache, 60000);
+      ReflectionTestUtils.setField(broadcaster, "topic", TOPIC);
+      ReflectionTestUtils.setField(broadcaster, "batchSize", 1000);
+    }
+
+    private TranslationsChangedEvent awaitEvent() throws InterruptedException {
+      long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+      while (events.isEmpty() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(events).hasSize(1);
+      return (TranslationsChangedEvent) events.get(0);
+    }
+  }
+}